@@ -0,0 +1,117 @@
+package org.syaku.springboot.web.support;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.syaku.springboot.web.support.freemarker.ParameterUtilsTemplateModel;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.ext.servlet.HttpRequestHashModel;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+/**
+ * 40개의 링크를 만드는 목록 화면을 요청마다 렌더링하여
+ * 컨테이너가 만든 파라메터 맵을 사용하는 경우와 {@link QueryParameterFilter} 가 분석한 맵을 사용하는 경우를 비교한다.
+ * 요청 하나의 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교한다.
+ *
+ * container: 요청 파라메터를 모두 파싱한 요청 (MockHttpServletRequest.addParameter)
+ * filter: query string 만 있는 요청을 필터가 한번 분석한다.
+ *
+ * jmh { profilers = ['gc'] }
+ * ./gradlew jmh -Pjmh.include=QueryParameterFilter
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParameterFilterBenchmark {
+  private static final String QUERY = "page=3&search=%EC%B5%9C%EC%84%9D%EA%B7%A0&category=notice&sort=date&rows=20"
+    + "&startDate=2026-01-01&endDate=2026-10-18&writer=syaku";
+
+  private static final String LIST =
+    "<#list 1..30 as i><a href=\"?${parameterUtils(Request, \"merge\", \"page=\" + i)}\">${i}</a></#list>"
+      + "<#list [\"subject\", \"writer\", \"date\", \"hit\", \"comment\"] as sort>"
+      + "<a href=\"?${parameterUtils(Request, \"merge\", \"sort=\" + sort + \"&page=\")}\">${sort}</a></#list>"
+      + "<#list 1..5 as row><a href=\"view?${parameterUtils(Request, \"pick\", \"page=&search=&sort=&no=\" + row)}\">${row}</a></#list>";
+
+  private final QueryParameterFilter filter = new QueryParameterFilter();
+  private Template template;
+
+  @Setup
+  public void setup() throws IOException {
+    StringTemplateLoader loader = new StringTemplateLoader();
+    loader.putTemplate("list", LIST);
+
+    Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+    configuration.setTemplateLoader(loader);
+    configuration.setSharedVariable("parameterUtils", new ParameterUtilsTemplateModel());
+    template = configuration.getTemplate("list");
+  }
+
+  @Benchmark
+  public String container() throws IOException, TemplateException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+    request.setQueryString(QUERY);
+    request.addParameter("page", "3");
+    request.addParameter("search", "최석균");
+    request.addParameter("category", "notice");
+    request.addParameter("sort", "date");
+    request.addParameter("rows", "20");
+    request.addParameter("startDate", "2026-01-01");
+    request.addParameter("endDate", "2026-10-18");
+    request.addParameter("writer", "syaku");
+    return render(request, new MockHttpServletResponse());
+  }
+
+  @Benchmark
+  public String filter() throws IOException, ServletException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+    request.setQueryString(QUERY);
+
+    String[] result = new String[1];
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+      try {
+        result[0] = render((HttpServletRequest) req, (HttpServletResponse) res);
+      } catch (TemplateException e) {
+        throw new ServletException(e);
+      }
+    });
+    return result[0];
+  }
+
+  private String render(HttpServletRequest request, HttpServletResponse response)
+    throws IOException, TemplateException {
+    Map<String, Object> model = new HashMap<>();
+    model.put("Request", new HttpRequestHashModel(request, response, template.getObjectWrapper()));
+
+    StringWriter out = new StringWriter(4096);
+    template.process(model, out);
+    return out.toString();
+  }
+}
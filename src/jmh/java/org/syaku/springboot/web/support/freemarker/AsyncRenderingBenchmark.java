@@ -0,0 +1,161 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+/**
+ * 템플릿이 읽는 데이터가 느린 화면을 요청 스레드에서 렌더링하는 경우 (blocking) 와
+ * {@link AsyncRenderingReturnValueHandler} 로 렌더링하는 경우 (async) 의 초당 요청 수를 비교한다.
+ *
+ * MockMvc 의 요청은 호출한 스레드에서 처리되므로 크기가 {@link #CONTAINER_THREADS} 인 스레드 풀을 톰캣의 요청 스레드로 사용한다.
+ * async 는 요청 스레드가 렌더링을 넘긴 뒤 반환되고 렌더링이 끝나면 비동기 디스패치를 다시 요청 스레드 풀에서 처리한다.
+ * 한번의 호출은 {@link #REQUESTS} 개의 요청을 동시에 보내며 결과는 요청 하나 기준 (ops/s = 초당 요청 수) 이다.
+ *
+ * 렌더링 스레드 풀 크기는 syaku.web.freemarker.async.pool-size 기본 값 (64) 이다. Java 21 이상에서는 가상 스레드를 사용한다.
+ *
+ * ./gradlew jmh -Pjmh.include=AsyncRendering
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncRenderingBenchmark {
+  static final int CONTAINER_THREADS = 8;
+  static final int REQUESTS = 200;
+  /**
+   * 템플릿이 데이터를 읽을 때 마다 기다리는 시간 (ms)
+   */
+  static final long LOOKUP_MILLIS = 20;
+
+  @Param({ "blocking", "async" })
+  private String mode;
+
+  private ConfigurableApplicationContext context;
+  private MockMvc mockMvc;
+  private ExecutorService container;
+
+  @Configuration
+  @EnableAutoConfiguration
+  @Import(LoadController.class)
+  static class LoadApplication {
+  }
+
+  @Controller
+  static class LoadController {
+    @GetMapping("list")
+    public String list(Model model) {
+      model.addAttribute("lookup", new Lookup());
+      return "asyncRenderingLoad";
+    }
+  }
+
+  public static class Lookup {
+    public List<String> getRows() throws InterruptedException {
+      Thread.sleep(LOOKUP_MILLIS);
+      return Arrays.asList("하나", "둘", "셋");
+    }
+  }
+
+  @Setup
+  public void setup() {
+    context = new SpringApplicationBuilder(LoadApplication.class)
+      .web(WebApplicationType.SERVLET)
+      .contextClass(GenericWebApplicationContext.class)
+      .initializers(applicationContext ->
+        ((GenericWebApplicationContext) applicationContext).setServletContext(new MockServletContext()))
+      .run("--syaku.web.freemarker.async.enabled=" + "async".equals(mode),
+        "--logging.level.root=error", "--logging.level.org.syaku=error", "--logging.level.org.springframework.web=error");
+    mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+    AtomicInteger count = new AtomicInteger();
+    container = Executors.newFixedThreadPool(CONTAINER_THREADS, runnable -> {
+      Thread thread = new Thread(runnable, "container-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    container.shutdownNow();
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  public void requests() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(REQUESTS);
+    for (int i = 0; i < REQUESTS; i++) {
+      container.execute(() -> request(latch));
+    }
+    latch.await();
+  }
+
+  private void request(CountDownLatch latch) {
+    try {
+      MvcResult result = mockMvc.perform(get("/list?page=1&search=choi")).andReturn();
+      if (!result.getRequest().isAsyncStarted()) {
+        latch.countDown();
+        return;
+      }
+
+      // 렌더링이 끝나면 요청 스레드 풀에서 비동기 디스패치를 처리한다.
+      MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+      asyncContext.addDispatchHandler(() -> container.execute(() -> {
+        try {
+          mockMvc.perform(asyncDispatch(result));
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        } finally {
+          latch.countDown();
+        }
+      }));
+    } catch (Exception e) {
+      latch.countDown();
+      throw new IllegalStateException(e);
+    }
+  }
+}
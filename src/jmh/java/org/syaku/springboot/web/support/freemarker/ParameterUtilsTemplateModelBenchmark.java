@@ -0,0 +1,133 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.syaku.springboot.web.utils.ParameterUtils;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.ext.servlet.HttpRequestHashModel;
+import freemarker.template.Configuration;
+import freemarker.template.SimpleScalar;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateMethodModelEx;
+
+/**
+ * 50개의 페이지 링크와 정렬 링크를 가진 페이지 목록 템플릿을 렌더링하여
+ * {@link ParameterUtilsTemplateModel} 의 요청별 캐시로 줄어든 시간을 비교한다.
+ * 매 호출마다 새 요청을 만들므로 캐시는 한번의 렌더링 안에서만 사용된다.
+ * fragment 는 같은 템플릿을 {@link FragmentCacheDirective} 로 감싸 같은 파라메터의 요청이 렌더링 결과를 재사용하는 경우다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterUtilsTemplateModelBenchmark {
+  private static final String PAGINATOR =
+    "<a href=\"?${parameterUtils(Request, \"merge\", \"page=1\")}\">first</a>"
+      + "<#list 1..50 as i><a href=\"?${parameterUtils(Request, \"merge\", \"page=\" + i)}\">${i}</a></#list>"
+      + "<a href=\"?${parameterUtils(Request, \"merge\", \"page=50\")}\">last</a>"
+      + "<#list [\"subject\", \"writer\", \"date\", \"hit\"] as sort>"
+      + "<a href=\"?${parameterUtils(Request, \"merge\", \"sort=\" + sort + \"&page=\")}\">${sort}</a></#list>"
+      + "<#list 1..20 as row><a href=\"view?${parameterUtils(Request, \"pick\", \"page=&search=&sort=\")}\">${row}</a></#list>";
+
+  private Template memoized;
+  private Template direct;
+  private Template fragment;
+
+  @Setup
+  public void setup() throws IOException {
+    memoized = configuration(new ParameterUtilsTemplateModel()).getTemplate("paginator");
+    direct = configuration(new DirectTemplateModel()).getTemplate("paginator");
+    fragment = configuration(new ParameterUtilsTemplateModel()).getTemplate("fragment");
+  }
+
+  private static Configuration configuration(TemplateMethodModelEx model) {
+    StringTemplateLoader loader = new StringTemplateLoader();
+    loader.putTemplate("paginator", PAGINATOR);
+    loader.putTemplate("fragment", "<@fragmentCache>" + PAGINATOR + "</@fragmentCache>");
+
+    Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+    configuration.setTemplateLoader(loader);
+    configuration.setSharedVariable("parameterUtils", model);
+    configuration.setSharedVariable("fragmentCache",
+      new FragmentCacheDirective(new FragmentCache(100, Duration.ofMinutes(10))));
+    return configuration;
+  }
+
+  @Benchmark
+  public String memoized() throws IOException, TemplateException {
+    return render(memoized);
+  }
+
+  @Benchmark
+  public String direct() throws IOException, TemplateException {
+    return render(direct);
+  }
+
+  @Benchmark
+  public String fragment() throws IOException, TemplateException {
+    return render(fragment);
+  }
+
+  private static String render(Template template) throws IOException, TemplateException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+    request.setQueryString("page=3&search=choi&category=notice&sort=date&rows=20");
+    request.addParameter("page", "3");
+    request.addParameter("search", "choi");
+    request.addParameter("category", "notice");
+    request.addParameter("sort", "date");
+    request.addParameter("rows", "20");
+
+    Map<String, Object> model = new HashMap<>();
+    model.put("Request",
+      new HttpRequestHashModel(request, new MockHttpServletResponse(), template.getObjectWrapper()));
+
+    StringWriter out = new StringWriter(4096);
+    template.process(model, out);
+    return out.toString();
+  }
+
+  /**
+   * 요청별 캐시 없이 호출마다 {@link ParameterUtils} 를 사용하는 비교 대상
+   */
+  private static class DirectTemplateModel implements TemplateMethodModelEx {
+    @Override
+    public Object exec(List arguments) {
+      HttpServletRequest request = ((HttpRequestHashModel) arguments.get(0)).getRequest();
+      String mode = ((SimpleScalar) arguments.get(1)).getAsString();
+      String params = ((SimpleScalar) arguments.get(2)).getAsString();
+
+      return "merge".equals(mode)
+        ? ParameterUtils.merge(request.getParameterMap(), params)
+        : ParameterUtils.pick(request.getParameterMap(), params);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link JsonUtils} 의 문자열 API 와 스트림 API 를 목록 크기별로 비교한다.
+ * roundTrip 은 큰 목록을 문자열로 만들고 다시 읽는다.
+ * 메모리 사용량은 gc 프로파일러의 gc.alloc.rate.norm (op 당 할당 바이트) 과 gc.churn.Tenured_Gen 으로 비교한다.
+ * 문자열 API 는 목록 크기에 비례하여 String, char[] 를 할당하지만
+ * 스트림 API 는 버퍼를 재사용하고 항목 객체는 바로 버려지므로 최대 힙 사용량이 목록 크기와 관계없이 일정하다.
+ *
+ * jmh { profilers = ['gc'] }
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class JsonUtilsBenchmark {
+  @Param({ "1000", "10000", "100000" })
+  private int size;
+
+  private List<Map<String, Object>> list;
+  private byte[] json;
+
+  @Setup
+  public void setup() throws IOException {
+    list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Map<String, Object> post = new LinkedHashMap<>();
+      post.put("id", i);
+      post.put("subject", "스프링 부트 게시판 제목 " + i);
+      post.put("hits", i * 7);
+      list.add(post);
+    }
+    json = JsonUtils.toString(list).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public int writeString() throws IOException {
+    return JsonUtils.toString(list).getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  @Benchmark
+  public void writeStream(Blackhole blackhole) throws IOException {
+    JsonUtils.write(list, new BlackholeOutputStream(blackhole));
+  }
+
+  @Benchmark
+  public int readString() throws IOException {
+    return JsonUtils.toList(new StringReader(new String(json, StandardCharsets.UTF_8))).size();
+  }
+
+  @Benchmark
+  public int roundTrip() throws IOException {
+    return JsonUtils.toList(JsonUtils.toString(list)).size();
+  }
+
+  @Benchmark
+  public void readStream(Blackhole blackhole) throws IOException {
+    try (JsonUtils.ArrayIterator<Map> iterator = JsonUtils.iterator(new ByteArrayInputStream(json), Map.class)) {
+      while (iterator.hasNext()) {
+        blackhole.consume(iterator.next());
+      }
+    }
+  }
+
+  /**
+   * 쓴 바이트를 버리는 출력 스트림
+   */
+  private static final class BlackholeOutputStream extends OutputStream {
+    private final Blackhole blackhole;
+
+    private BlackholeOutputStream(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      blackhole.consume(len);
+    }
+  }
+}
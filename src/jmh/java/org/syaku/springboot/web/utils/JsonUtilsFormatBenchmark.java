@@ -0,0 +1,78 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 세션, 캐시에 저장하는 값을 텍스트 JSON 과 Smile 로 직렬화하는 처리량을 비교한다.
+ * 직렬화한 크기는 실행 로그에 출력한다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsFormatBenchmark {
+  @Param({ "JSON", "SMILE" })
+  private JsonUtils.Format format;
+
+  private Session session;
+  private byte[] data;
+
+  public static class Session {
+    public long userId;
+    public String userName;
+    public List<String> roles;
+    public List<Long> recentPostIds;
+    public long lastAccessedTime;
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    session = new Session();
+    session.userId = 1001;
+    session.userName = "최석균";
+    session.roles = new ArrayList<>();
+    session.roles.add("ROLE_USER");
+    session.roles.add("ROLE_ADMIN");
+    session.recentPostIds = new ArrayList<>();
+    for (long i = 0; i < 50; i++) {
+      session.recentPostIds.add(100000 + i);
+    }
+    session.lastAccessedTime = 1_790_000_000_000L;
+
+    data = JsonUtils.toBytes(session, format);
+    System.out.println();
+    System.out.println("# " + format + " encoded size: " + data.length + " bytes");
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return JsonUtils.toBytes(session, format);
+  }
+
+  @Benchmark
+  public Session decode() throws IOException {
+    return JsonUtils.toObject(data, Session.class);
+  }
+}
@@ -0,0 +1,105 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 게시글 DTO 하나와 게시글 20 개 목록을 읽고 쓰는 비용을 비교한다.
+ *
+ * tree: 기존과 같이 호출마다 TypeReference 를 만들어 Map, List 트리로 읽는다.
+ * typed: 타입별로 캐시한 ObjectReader, ObjectWriter 로 DTO 를 바로 읽고 쓴다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsTypeBenchmark {
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private Post post;
+  private String postJson;
+  private String postsJson;
+
+  public static class Post {
+    public long id;
+    public String subject;
+    public String writer;
+    public int hits;
+    public boolean notice;
+    public List<String> tags;
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    List<Post> posts = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Post post = new Post();
+      post.id = i;
+      post.subject = "스프링 부트 게시판 제목 " + i;
+      post.writer = "syaku";
+      post.hits = i * 7;
+      post.notice = i == 0;
+      post.tags = new ArrayList<>();
+      post.tags.add("spring");
+      post.tags.add("freemarker");
+      posts.add(post);
+    }
+    post = posts.get(0);
+    postJson = JsonUtils.toString(post);
+    postsJson = JsonUtils.toString(posts);
+  }
+
+  @Benchmark
+  public Map<String, Object> treeObject() throws IOException {
+    return mapper.readValue(postJson, new TypeReference<Map<String, Object>>() {});
+  }
+
+  @Benchmark
+  public Post typedObject() throws IOException {
+    return JsonUtils.toObject(postJson, Post.class);
+  }
+
+  @Benchmark
+  public List<Object> treeList() throws IOException {
+    return mapper.readValue(postsJson, new TypeReference<List<Object>>() {});
+  }
+
+  @Benchmark
+  public List<Post> typedList() throws IOException {
+    return JsonUtils.toList(postsJson, Post.class);
+  }
+
+  @Benchmark
+  public String mapperWrite() throws IOException {
+    return mapper.writeValueAsString(post);
+  }
+
+  @Benchmark
+  public String typedWrite() throws IOException {
+    return JsonUtils.toString(post);
+  }
+}
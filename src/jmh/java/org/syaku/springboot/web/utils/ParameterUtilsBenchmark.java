@@ -0,0 +1,178 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ParameterUtils#stringToMap(String)} 의 단일 순회 파서와 기존 split 기반 구현을 비교한다.
+ * 템플릿에서 매번 호출하는 merge, pick, mapToString 도 함께 측정한다.
+ * union 은 {@link ParameterMap#overlay(Map, Map)} 와 기존 LinkedHashMap 복사 구현을 비교한다.
+ * mergeAll 은 페이지 링크 10 개를 한번에 만드는 경우와 merge 를 10 번 호출하는 경우를 비교한다.
+ * parseLimited 는 {@link QueryLimits} 를 적용한 분석의 비용을 측정한다.
+ * search 는 검색 화면과 같이 30 개의 파라메터를 사용한다.
+ * large 는 인코딩된 한글 값이 섞인 약 2 KB 문자열 파라메터이다.
+ * mergeQuery 는 {@link QueryView} 로 원본을 복사하는 merge 와 분석 후 merge 하는 parseMerge 를 비교한다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterUtilsBenchmark {
+  @Param({ "paging", "search", "encoded", "large" })
+  private String type;
+
+  private static final QueryLimits LIMITS = QueryLimits.of(256, 256, 2048, 8192);
+
+  private String query;
+  private Map<String, String[]> parameters;
+
+  @Setup
+  public void setup() {
+    switch (type) {
+      case "paging":
+        query = "page=1&search=choi";
+        break;
+      case "search":
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+          builder.append("field").append(i).append('=').append("value").append(i).append('&');
+        }
+        query = builder.append("page=").toString();
+        break;
+      case "large":
+        StringBuilder large = new StringBuilder("page=1");
+        for (int i = 0; large.length() < 2048; i++) {
+          large.append("&filter").append(i).append('=').append(i % 3 == 0 ? "%EC%B5%9C%EC%84%9D%EA%B7%A0" : "value" + i);
+        }
+        query = large.toString();
+        break;
+      default:
+        query = "page=3&search=%EC%B5%9C%EC%84%9D%EA%B7%A0&keyword=spring+boot&mode=save&category=";
+    }
+    parameters = ParameterUtils.stringToMap(query);
+  }
+
+  @Benchmark
+  public Map<String, String[]> stringToMap() {
+    return ParameterUtils.stringToMap(query);
+  }
+
+  @Benchmark
+  public Map<String, String[]> parseLimited() {
+    return ParameterUtils.parse(query, UrlCodec.UTF_8, LIMITS);
+  }
+
+  @Benchmark
+  public String mapToString() {
+    return ParameterUtils.mapToString(parameters, false);
+  }
+
+  @Benchmark
+  public String merge() {
+    return ParameterUtils.merge(parameters, "page=2&mode=");
+  }
+
+  @Benchmark
+  public String mergeQuery() {
+    return ParameterUtils.mergeQuery(query, "page=2&mode=");
+  }
+
+  @Benchmark
+  public String parseMerge() {
+    return ParameterUtils.merge(ParameterUtils.stringToMap(query), "page=2&mode=");
+  }
+
+  @Benchmark
+  public String pick() {
+    return ParameterUtils.pick(parameters, "page=&search=");
+  }
+
+  @Benchmark
+  public List<String> mergeAll() {
+    return ParameterUtils.mergeAll(parameters, "page", 1, 10);
+  }
+
+  @Benchmark
+  public List<String> mergeEach() {
+    List<String> result = new ArrayList<>(10);
+    for (int page = 1; page <= 10; page++) {
+      result.add(ParameterUtils.merge(parameters, "page=" + page));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public String union() {
+    return ParameterUtils.mapToString(ParameterUtils.union(parameters, "page=2&mode="));
+  }
+
+  @Benchmark
+  public String legacyUnion() {
+    Map<String, String[]> result = new LinkedHashMap<>(parameters);
+    result.putAll(ParameterUtils.stringToMap("page=2&mode="));
+    return ParameterUtils.mapToString(result);
+  }
+
+  @Benchmark
+  public Map<String, String[]> legacyStringToMap() throws UnsupportedEncodingException {
+    return legacy(query);
+  }
+
+  /**
+   * 비교를 위해 남겨둔 기존 구현
+   */
+  private static Map<String, String[]> legacy(String params) throws UnsupportedEncodingException {
+    Map<String, List<String>> store = new LinkedHashMap<>();
+    String[] pairs = params.split("&");
+
+    for (String pair : pairs) {
+      int idx = pair.indexOf("=");
+      String name = URLDecoder.decode(pair.substring(0, idx), "UTF-8");
+      String value = URLDecoder.decode(pair.substring(idx + 1), "UTF-8");
+
+      List<String> values = new LinkedList<>();
+
+      if (store.containsKey(name)) {
+        values = store.get(name);
+      }
+
+      if (value.length() > 0) {
+        values.add(value);
+      }
+      store.put(name, values);
+    }
+
+    Map<String, String[]> result = new LinkedHashMap<>();
+
+    for (Map.Entry<String, List<String>> values: store.entrySet()) {
+      result.put(values.getKey(), values.getValue().toArray(new String[values.getValue().size()]));
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,95 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link StringUtils#abbreviate(String, int, String)} 와 {@link TextAbbreviator} 를
+ * 기존 getBytes + StringBuffer 구현과 비교한다. 한글과 이모지가 많은 제목을 사용한다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+  @Param({ "korean", "emoji" })
+  private String type;
+
+  private String text;
+
+  @Setup
+  public void setup() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      builder.append("korean".equals(type)
+        ? "스프링 부트 프리마커 게시판 제목 줄임 테스트 "
+        : "오늘의 공지 😀🎉👍🏻 이모지 🇰🇷 제목 ");
+    }
+    text = builder.toString();
+  }
+
+  @Benchmark
+  public String abbreviate() {
+    return StringUtils.abbreviate(text, 40, "...");
+  }
+
+  @Benchmark
+  public String abbreviateGraphemes() {
+    return StringUtils.abbreviateGraphemes(text, 40, "...");
+  }
+
+  @Benchmark
+  public String abbreviateBytes() {
+    return StringUtils.abbreviateBytes(text, 200, "...");
+  }
+
+  @Benchmark
+  public String legacyAbbreviate() throws UnsupportedEncodingException {
+    return legacy(text, 40, "...");
+  }
+
+  /**
+   * 비교를 위해 남겨둔 기존 구현
+   */
+  private static String legacy(String text, int limit, String ending) throws UnsupportedEncodingException {
+    int aLimit = limit - 1;
+    String aText = new String(text.getBytes(), "UTF-8");
+    int length = aText.length();
+
+    if (aLimit > length) {
+      return aText;
+    }
+
+    StringBuffer string = new StringBuffer();
+    for (int i = 0; i < length; i++) {
+      string.append(aText.charAt(i));
+      if (i == aLimit) {
+        break;
+      }
+    }
+
+    if (ending != null) {
+      string.append(ending);
+    }
+    return string.toString();
+  }
+}
@@ -0,0 +1,63 @@
+package org.syaku.springboot.web.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 첨부파일 목록에서 호출하는 {@link UnitConverter} 를 측정한다.
+ *
+ * ./gradlew jmh
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConverterBenchmark {
+  @Param({ "1023", "1536", "10995116277" })
+  private long byteSize;
+
+  private String unit;
+  private final StringBuilder builder = new StringBuilder(24);
+
+  @Setup
+  public void setup() {
+    unit = UnitConverter.byteToUnit(byteSize);
+  }
+
+  @Benchmark
+  public String byteToUnit() {
+    return UnitConverter.byteToUnit(byteSize);
+  }
+
+  @Benchmark
+  public String byteToUnitFixed() {
+    return UnitConverter.byteToUnit(byteSize, UnitConverter.DataUnit.MB);
+  }
+
+  @Benchmark
+  public StringBuilder appendTo() {
+    builder.setLength(0);
+    return UnitConverter.appendTo(builder, byteSize);
+  }
+
+  @Benchmark
+  public long unitToByte() {
+    return UnitConverter.unitToByte(unit);
+  }
+}
@@ -0,0 +1,2 @@
+<#list 1..20 as i><a href="?${parameterUtils(Request, "merge", "page=" + i)}">${i}</a></#list>
+<#list lookup.rows as row>${row}</#list>
\ No newline at end of file
@@ -0,0 +1,20 @@
+package org.syaku.springboot.web.support;
+
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
+import org.springframework.core.convert.converter.Converter;
+import org.syaku.springboot.web.utils.ByteSize;
+
+/**
+ * 설정 값 10MB, 1.5 GB 등을 {@link ByteSize} 로 변환한다.
+ * {@link WebUtilsAutoConfiguration} 에서 등록되며 @ConfigurationProperties 속성에 사용할 수 있다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@ConfigurationPropertiesBinding
+public class ByteSizeConverter implements Converter<String, ByteSize> {
+  @Override
+  public ByteSize convert(String source) {
+    return ByteSize.parse(source);
+  }
+}
@@ -0,0 +1,142 @@
+package org.syaku.springboot.web.support;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.syaku.springboot.web.utils.UnitConverter;
+
+/**
+ * {@link StreamingExport} 가 CSV 로 내보낼 컬럼. 헤더와 행에서 값을 꺼내 쓰는 방법을 가진다.
+ * 값은 행 하나를 만드는 버퍼에 바로 쓰며, 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싼다.
+ * 수식 이스케이프를 사용하면 =, +, -, @, 탭, CR 로 시작하는 값 앞에 ' 를 붙여 엑셀이 수식으로 실행하지 않게 한다.
+ *
+ * CsvColumn.of("파일명", Attachment::getName)
+ * CsvColumn.byteSize("크기", Attachment::getSize) return "1.5 MB"
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see StreamingExport#csv(java.util.Iterator, String, java.util.List)
+ */
+public final class CsvColumn<T> {
+  /**
+   * 행의 값을 버퍼에 쓴다. 이스케이프는 {@link CsvColumn} 이 처리한다.
+   * @param <T> 행 타입
+   */
+  @FunctionalInterface
+  public interface Formatter<T> {
+    void format(T row, StringBuilder out);
+  }
+
+  private final String header;
+  private final Formatter<? super T> formatter;
+
+  private CsvColumn(String header, Formatter<? super T> formatter) {
+    this.header = header;
+    this.formatter = formatter;
+  }
+
+  /**
+   * @param header 헤더
+   * @param value 행의 값. null 은 빈 값으로 쓰고 그외 toString 으로 쓴다.
+   * @param <T> 행 타입
+   * @return csv column
+   */
+  public static <T> CsvColumn<T> of(String header, Function<? super T, ?> value) {
+    return new CsvColumn<>(header, (row, out) -> {
+      Object result = value.apply(row);
+      if (result instanceof CharSequence) {
+        out.append((CharSequence) result);
+      } else if (result != null) {
+        out.append(result);
+      }
+    });
+  }
+
+  /**
+   * @param header 헤더
+   * @param formatter 행의 값을 버퍼에 쓰는 방법
+   * @param <T> 행 타입
+   * @return csv column
+   */
+  public static <T> CsvColumn<T> of(String header, Formatter<? super T> formatter) {
+    return new CsvColumn<>(header, formatter);
+  }
+
+  /**
+   * 바이트 크기를 단위 문자열로 쓴다. 문자열을 만들지 않고 {@link UnitConverter#appendTo(StringBuilder, long)} 로 버퍼에 쓴다.
+   * @param header 헤더
+   * @param size 행의 바이트 크기
+   * @param <T> 행 타입
+   * @return csv column
+   */
+  public static <T> CsvColumn<T> byteSize(String header, ToLongFunction<? super T> size) {
+    return new CsvColumn<>(header, (row, out) -> UnitConverter.appendTo(out, size.applyAsLong(row)));
+  }
+
+  public String getHeader() {
+    return header;
+  }
+
+  void appendHeader(StringBuilder out, boolean formula) {
+    int start = out.length();
+    if (header != null) {
+      out.append(header);
+    }
+    escape(out, start, formula);
+  }
+
+  void appendValue(StringBuilder out, T row, boolean formula) {
+    int start = out.length();
+    formatter.format(row, out);
+    escape(out, start, formula);
+  }
+
+  private static void escape(StringBuilder out, int start, boolean formula) {
+    if (formula && out.length() > start && isFormula(out.charAt(start))) {
+      out.insert(start, '\'');
+    }
+    escape(out, start);
+  }
+
+  /**
+   * 엑셀 등이 수식으로 처리하는 첫 글자 (OWASP CSV injection)
+   */
+  private static boolean isFormula(char c) {
+    return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+  }
+
+  /**
+   * start 부터 쓴 값에 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 큰따옴표는 두번 쓴다 (RFC 4180).
+   */
+  private static void escape(StringBuilder out, int start) {
+    int end = out.length();
+    int quotes = 0;
+    boolean special = false;
+    for (int i = start; i < end; i++) {
+      char c = out.charAt(i);
+      if (c == '"') {
+        quotes++;
+        special = true;
+      } else if (c == ',' || c == '\n' || c == '\r') {
+        special = true;
+      }
+    }
+
+    if (!special) {
+      return;
+    }
+
+    // 뒤에서 부터 옮겨 쓰므로 버퍼를 한번만 늘린다.
+    out.setLength(end + quotes + 2);
+    int to = end + quotes + 1;
+    out.setCharAt(to--, '"');
+    for (int i = end - 1; i >= start; i--) {
+      char c = out.charAt(i);
+      out.setCharAt(to--, c);
+      if (c == '"') {
+        out.setCharAt(to--, '"');
+      }
+    }
+    out.setCharAt(to, '"');
+  }
+}
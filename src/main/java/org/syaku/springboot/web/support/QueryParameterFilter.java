@@ -0,0 +1,79 @@
+package org.syaku.springboot.web.support;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.syaku.springboot.web.utils.ParameterUtils;
+import org.syaku.springboot.web.utils.QueryLimits;
+import org.syaku.springboot.web.utils.UrlCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GET, HEAD 요청의 문자열 파라메터 (query string) 를 요청마다 한번만 분석하여
+ * 수정할 수 없는 순서 있는 맵으로 {@link #PARAMETERS_ATTRIBUTE} 요청 속성에 저장한다.
+ * parameterUtils 템플릿 메서드와 컨트롤러는 {@link #getParameters(HttpServletRequest)} 로 복사 없이 같은 맵을 읽는다.
+ *
+ * 분석할 때 {@link QueryLimits#getDefault()} 를 적용하므로 제한을 넘는 파라메터는 맵에 없다.
+ * 요청 본문에 파라메터가 있을 수 있는 POST 등의 요청과 잘못된 인코딩 (%zz) 이 있는 요청은 저장하지 않으며
+ * {@link HttpServletRequest#getParameterMap()} 을 사용한다.
+ *
+ * application.properties
+ * syaku.web.query-parameter-filter=true
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#parse(String, UrlCodec)
+ */
+@Slf4j
+public class QueryParameterFilter extends OncePerRequestFilter {
+  /**
+   * 분석한 파라메터 맵을 저장하는 요청 속성 이름
+   */
+  public static final String PARAMETERS_ATTRIBUTE = QueryParameterFilter.class.getName() + ".PARAMETERS";
+
+  private final UrlCodec codec;
+
+  public QueryParameterFilter() {
+    this(null);
+  }
+
+  /**
+   * @param codec 디코딩에 사용할 코덱. null 인 경우 {@link UrlCodec#getDefault()}
+   */
+  public QueryParameterFilter(UrlCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * @param request 요청
+   * @return 필터가 분석한 파라메터 맵. 없으면 {@link HttpServletRequest#getParameterMap()}
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, String[]> getParameters(HttpServletRequest request) {
+    Object parameters = request.getAttribute(PARAMETERS_ATTRIBUTE);
+    return parameters == null ? request.getParameterMap() : (Map<String, String[]>) parameters;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    String method = request.getMethod();
+    if ("GET".equals(method) || "HEAD".equals(method)) {
+      try {
+        request.setAttribute(PARAMETERS_ATTRIBUTE,
+          ParameterUtils.parse(request.getQueryString(), codec == null ? UrlCodec.getDefault() : codec));
+      } catch (IllegalArgumentException e) {
+        log.debug("query string is not parsed: {}", e.getMessage());
+      }
+    }
+
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,314 @@
+package org.syaku.springboot.web.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.syaku.springboot.web.utils.JsonUtils;
+
+/**
+ * 행을 하나씩 CSV, JSON 배열로 응답하는 다운로드. 목록 전체나 결과 문자열을 메모리에 만들지 않는다.
+ * {@link StreamingResponseBody} 로 응답하므로 요청 스레드를 붙잡지 않고 MVC 비동기 작업 스레드에서 쓴다.
+ *
+ * 첫 행 (CSV 는 헤더) 을 쓰면 바로 flush 하여 첫 바이트를 보내고 이후 flushInterval 행 마다 flush 한다.
+ * 서블릿 출력 스트림은 클라이언트가 받지 못하면 쓰기가 멈추므로 읽는 속도도 그에 맞춰 느려진다.
+ * 행 버퍼는 재사용하며 큰 행을 쓴 다음에는 처음 크기로 되돌린다.
+ * 긴 다운로드는 spring.mvc.async.request-timeout 을 늘려야 한다.
+ *
+ * Stream 은 다 쓰거나 오류가 나면 닫는다. Iterator 가 {@link AutoCloseable} 인 경우도 닫는다.
+ *
+ * 행은 컨트롤러가 반환한 뒤 비동기 작업 스레드에서 읽으므로 그때는 컨트롤러의 트랜잭션과 영속성 컨텍스트가 닫혀 있다.
+ * JPA Repository 의 Stream 은 트랜잭션 안에서만 읽을 수 있으므로 그대로 전달하면 안된다.
+ * 트랜잭션이 필요 없는 원본 (JdbcTemplate 으로 페이지 단위로 읽는 Iterator, 파일 등) 을 사용하거나
+ * {@link StreamingResponseBody} 안에서 TransactionTemplate 으로 트랜잭션을 열고 {@link #writeCsv(Iterator, List, OutputStream)} 를 호출한다.
+ *
+ * 엑셀에서 여는 파일이므로 기본적으로 =, +, -, @, 탭, CR 로 시작하는 값 앞에 ' 를 붙여 수식으로 실행되지 않게 한다 (CSV injection).
+ * 음수 같은 값도 ' 가 붙으므로 숫자만 내보내는 경우 {@link #withFormulaEscape(boolean)} 로 끌 수 있다.
+ *
+ * {@literal @}GetMapping("attachments.csv")
+ * public ResponseEntity{@literal <}StreamingResponseBody{@literal >} csv() {
+ *   return StreamingExport.DEFAULT.csv(attachmentStore.iterateAll(), "첨부파일.csv", Arrays.asList(
+ *     CsvColumn.of("파일명", Attachment::getName),
+ *     CsvColumn.byteSize("크기", Attachment::getSize)));
+ * }
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see CsvColumn
+ * @see JsonUtils#writeAll(Iterator, OutputStream, int)
+ */
+public final class StreamingExport {
+  /**
+   * UTF-8, BOM 사용, 1000 행 마다 flush, 수식 이스케이프 사용
+   */
+  public static final StreamingExport DEFAULT = new StreamingExport(StandardCharsets.UTF_8, 1000, true, true);
+
+  private static final int ROW_CAPACITY = 256;
+  private static final int MAX_ROW_CAPACITY = 64 * 1024;
+  private static final List<Charset> BOM_CHARSETS =
+    Arrays.asList(StandardCharsets.UTF_8, StandardCharsets.UTF_16LE, StandardCharsets.UTF_16BE);
+
+  private final Charset charset;
+  private final int flushInterval;
+  private final boolean bom;
+  private final boolean formulaEscape;
+
+  private StreamingExport(Charset charset, int flushInterval, boolean bom, boolean formulaEscape) {
+    this.charset = charset;
+    this.flushInterval = flushInterval;
+    this.bom = bom;
+    this.formulaEscape = formulaEscape;
+  }
+
+  /**
+   * @param charset CSV 문자셋. JSON 은 항상 UTF-8 로 쓴다.
+   * @return 문자셋을 바꾼 새로운 객체
+   */
+  public StreamingExport withCharset(Charset charset) {
+    return new StreamingExport(charset, flushInterval, bom, formulaEscape);
+  }
+
+  /**
+   * @param flushInterval flush 할 행 간격. 1 이상
+   * @return flush 간격을 바꾼 새로운 객체
+   */
+  public StreamingExport withFlushInterval(int flushInterval) {
+    if (flushInterval < 1) {
+      throw new IllegalArgumentException("flushInterval must be greater than 0");
+    }
+    return new StreamingExport(charset, flushInterval, bom, formulaEscape);
+  }
+
+  /**
+   * @param bom UTF-8, UTF-16LE, UTF-16BE 문자셋의 CSV 앞에 BOM 을 쓸지 여부. 엑셀이 UTF-8 을 인식하려면 필요하다.
+   * UTF-16 은 Java 의 인코더가 BOM 을 쓰므로 따로 쓰지 않는다.
+   * @return BOM 사용 여부를 바꾼 새로운 객체
+   */
+  public StreamingExport withBom(boolean bom) {
+    return new StreamingExport(charset, flushInterval, bom, formulaEscape);
+  }
+
+  /**
+   * @param formulaEscape =, +, -, @, 탭, CR 로 시작하는 CSV 값 앞에 ' 를 붙일지 여부
+   * @return 수식 이스케이프 사용 여부를 바꾼 새로운 객체
+   */
+  public StreamingExport withFormulaEscape(boolean formulaEscape) {
+    return new StreamingExport(charset, flushInterval, bom, formulaEscape);
+  }
+
+  public Charset getCharset() {
+    return charset;
+  }
+
+  public int getFlushInterval() {
+    return flushInterval;
+  }
+
+  public boolean isBom() {
+    return bom;
+  }
+
+  public boolean isFormulaEscape() {
+    return formulaEscape;
+  }
+
+  /**
+   * @param rows 행
+   * @param filename 다운로드 파일명
+   * @return JSON 배열 응답
+   */
+  public ResponseEntity<StreamingResponseBody> json(Iterator<?> rows, String filename) {
+    return ResponseEntity.ok()
+      .headers(headers(filename))
+      .contentType(MediaType.APPLICATION_JSON_UTF8)
+      .body(out -> writeJson(rows, out));
+  }
+
+  /**
+   * @param rows 행. 다 쓰면 닫는다.
+   * @param filename 다운로드 파일명
+   * @return JSON 배열 응답
+   */
+  public ResponseEntity<StreamingResponseBody> json(Stream<?> rows, String filename) {
+    return json(new StreamIterator<>(rows), filename);
+  }
+
+  /**
+   * @param rows 행
+   * @param filename 다운로드 파일명
+   * @param columns 컬럼
+   * @param <T> 행 타입
+   * @return CSV 응답
+   */
+  public <T> ResponseEntity<StreamingResponseBody> csv(Iterator<? extends T> rows, String filename, List<CsvColumn<T>> columns) {
+    return ResponseEntity.ok()
+      .headers(headers(filename))
+      .contentType(new MediaType("text", "csv", charset))
+      .body(out -> writeCsv(rows, columns, out));
+  }
+
+  /**
+   * @param rows 행. 다 쓰면 닫는다.
+   * @param filename 다운로드 파일명
+   * @param columns 컬럼
+   * @param <T> 행 타입
+   * @return CSV 응답
+   */
+  public <T> ResponseEntity<StreamingResponseBody> csv(Stream<? extends T> rows, String filename, List<CsvColumn<T>> columns) {
+    return csv(new StreamIterator<>(rows), filename, columns);
+  }
+
+  /**
+   * 행을 JSON 배열로 out 에 쓴다.
+   * @param rows 행
+   * @param out 출력 대상. 닫지 않는다.
+   * @return 쓴 행 수
+   * @throws IOException 쓰기 오류
+   */
+  public long writeJson(Iterator<?> rows, OutputStream out) throws IOException {
+    try {
+      return JsonUtils.writeAll(rows, out, flushInterval);
+    } finally {
+      close(rows);
+    }
+  }
+
+  /**
+   * 헤더와 행을 CSV 로 out 에 쓴다. 줄바꿈은 CRLF 를 사용한다 (RFC 4180).
+   * @param rows 행
+   * @param columns 컬럼
+   * @param out 출력 대상. 닫지 않는다.
+   * @param <T> 행 타입
+   * @return 쓴 행 수 (헤더 제외)
+   * @throws IOException 쓰기 오류
+   */
+  public <T> long writeCsv(Iterator<? extends T> rows, List<CsvColumn<T>> columns, OutputStream out) throws IOException {
+    try {
+      Writer writer = new OutputStreamWriter(out, charset);
+      StringBuilder row = new StringBuilder(ROW_CAPACITY);
+      char[] chars = new char[ROW_CAPACITY];
+
+      if (bom && BOM_CHARSETS.contains(charset)) {
+        writer.write('\uFEFF');
+      }
+
+      int size = columns.size();
+      for (int i = 0; i < size; i++) {
+        if (i > 0) {
+          row.append(',');
+        }
+        columns.get(i).appendHeader(row, formulaEscape);
+      }
+      row.append('\r').append('\n');
+      chars = write(writer, row, chars);
+      writer.flush();
+
+      long count = 0;
+      while (rows.hasNext()) {
+        T value = rows.next();
+        row.setLength(0);
+        for (int i = 0; i < size; i++) {
+          if (i > 0) {
+            row.append(',');
+          }
+          columns.get(i).appendValue(row, value, formulaEscape);
+        }
+        row.append('\r').append('\n');
+        chars = write(writer, row, chars);
+
+        if (row.capacity() > MAX_ROW_CAPACITY) {
+          row = new StringBuilder(ROW_CAPACITY);
+        }
+
+        if (++count % flushInterval == 0) {
+          writer.flush();
+        }
+      }
+      writer.flush();
+      return count;
+    } finally {
+      close(rows);
+    }
+  }
+
+  /**
+   * 행 버퍼를 문자 배열로 복사해 쓴다. StringBuilder 를 바로 쓰면 행 마다 문자열이 만들어진다.
+   * @return 다음 행에 사용할 문자 배열
+   */
+  private static char[] write(Writer writer, StringBuilder row, char[] chars) throws IOException {
+    int length = row.length();
+    if (length > chars.length) {
+      chars = new char[Math.max(length, chars.length * 2)];
+    }
+    row.getChars(0, length, chars, 0);
+    writer.write(chars, 0, length);
+    return chars.length > MAX_ROW_CAPACITY ? new char[ROW_CAPACITY] : chars;
+  }
+
+  private static HttpHeaders headers(String filename) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentDisposition(ContentDisposition.builder("attachment")
+      .filename(filename, StandardCharsets.UTF_8)
+      .build());
+    return headers;
+  }
+
+  private static void close(Iterator<?> rows) {
+    if (rows instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) rows).close();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  /**
+   * 다 쓰면 Stream 을 닫을 수 있도록 iterator 와 함께 가진다.
+   */
+  private static final class StreamIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Stream<T> stream;
+    private Iterator<T> iterator;
+
+    private StreamIterator(Stream<T> stream) {
+      this.stream = stream;
+    }
+
+    private Iterator<T> iterator() {
+      // 응답을 쓰기 시작할 때 Stream 을 연다.
+      if (iterator == null) {
+        iterator = stream.iterator();
+      }
+      return iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator().hasNext();
+    }
+
+    @Override
+    public T next() {
+      return iterator().next();
+    }
+
+    @Override
+    public void close() {
+      stream.close();
+    }
+  }
+}
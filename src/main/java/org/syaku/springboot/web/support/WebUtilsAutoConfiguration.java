@@ -0,0 +1,102 @@
+package org.syaku.springboot.web.support;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.syaku.springboot.web.utils.ByteSize;
+import org.syaku.springboot.web.utils.JsonUtils;
+import org.syaku.springboot.web.utils.ParameterUtils;
+import org.syaku.springboot.web.utils.QueryLimits;
+import org.syaku.springboot.web.utils.StringUtils;
+import org.syaku.springboot.web.utils.TextAbbreviator;
+import org.syaku.springboot.web.utils.UrlCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link WebUtilsProperties} 의 언어셋으로 {@link UrlCodec}, {@link TextAbbreviator} 를 만들어 빈으로 등록하고
+ * {@link ParameterUtils}, {@link StringUtils} 가 사용하는 기본 객체로 설정한다.
+ * syaku.web.query 속성으로 요청 파라메터에 적용할 기본 {@link QueryLimits} 를 설정한다.
+ * 설정 값을 {@link ByteSize} 로 변환하는 {@link ByteSizeConverter} 를 등록한다.
+ * {@link JsonUtils} 가 컨텍스트의 ObjectMapper 를 사용하도록 설정하고 설정한 DTO 타입을 미리 준비한다.
+ * syaku.web.query-parameter-filter=true 인 경우 {@link QueryParameterFilter} 를 등록한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Configuration
+@AutoConfigureAfter(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(WebUtilsProperties.class)
+public class WebUtilsAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public UrlCodec urlCodec(WebUtilsProperties properties) {
+    return UrlCodec.of(properties.getCharset());
+  }
+
+  @Bean
+  public InitializingBean urlCodecInitializer(UrlCodec urlCodec) {
+    return () -> UrlCodec.setDefault(urlCodec);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public TextAbbreviator textAbbreviator(WebUtilsProperties properties) {
+    return TextAbbreviator.of(properties.getCharset());
+  }
+
+  @Bean
+  public InitializingBean textAbbreviatorInitializer(TextAbbreviator textAbbreviator) {
+    return () -> TextAbbreviator.setDefault(textAbbreviator);
+  }
+
+  @Bean
+  public InitializingBean queryLimitsInitializer(WebUtilsProperties properties) {
+    return () -> QueryLimits.setDefault(properties.getQuery().toLimits());
+  }
+
+  @Bean
+  public InitializingBean jsonUtilsInitializer(ObjectProvider<ObjectMapper> objectMapper, WebUtilsProperties properties) {
+    return () -> {
+      WebUtilsProperties.Json json = properties.getJson();
+      if (json.isUseContextMapper()) {
+        ObjectMapper mapper = objectMapper.getIfUnique();
+        if (mapper != null) {
+          JsonUtils.setObjectMapper(mapper);
+        }
+      }
+      JsonUtils.warmup(json.getWarmupTypes());
+    };
+  }
+
+  @Bean
+  @ConfigurationPropertiesBinding
+  public static ByteSizeConverter byteSizeConverter() {
+    return new ByteSizeConverter();
+  }
+
+  @Configuration
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(prefix = "syaku.web", name = "query-parameter-filter", havingValue = "true")
+  static class QueryParameterFilterConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<QueryParameterFilter> queryParameterFilter(UrlCodec urlCodec) {
+      FilterRegistrationBean<QueryParameterFilter> registration =
+        new FilterRegistrationBean<>(new QueryParameterFilter(urlCodec));
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+      return registration;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package org.syaku.springboot.web.support;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.syaku.springboot.web.utils.QueryLimits;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * org.syaku.springboot.web.utils 설정
+ *
+ * application.properties
+ * syaku.web.charset=UTF-8
+ * syaku.web.json.warmup-types=com.example.PostDto,com.example.UserDto
+ * syaku.web.query.max-parameters=100
+ * syaku.web.query.allowed-names=page,search,sort
+ * syaku.web.freemarker.template-update-delay=0 (개발 환경)
+ * syaku.web.freemarker.async.enabled=true
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "syaku.web")
+public class WebUtilsProperties {
+  /**
+   * 파라메터 인코딩, 디코딩과 문자열 처리에 사용될 언어셋
+   */
+  private Charset charset = StandardCharsets.UTF_8;
+
+  /**
+   * 요청의 문자열 파라메터를 한번만 분석하는 {@link QueryParameterFilter} 를 등록할지 여부
+   */
+  private boolean queryParameterFilter = false;
+
+  private final Query query = new Query();
+
+  private final Json json = new Json();
+
+  private final Freemarker freemarker = new Freemarker();
+
+  /**
+   * 요청 파라메터를 분석하거나 merge, pick 의 대상으로 사용할 때 적용하는 제한. 0 이하의 값은 제한하지 않는다.
+   * @see QueryLimits
+   */
+  @Getter
+  @Setter
+  public static class Query {
+    /**
+     * 파라메터 (이름=값) 최대 개수
+     */
+    private int maxParameters = 256;
+
+    /**
+     * 디코딩한 파라메터 이름의 최대 길이
+     */
+    private int maxNameLength = 256;
+
+    /**
+     * 디코딩한 파라메터 값의 최대 길이
+     */
+    private int maxValueLength = 2048;
+
+    /**
+     * 남긴 파라메터를 문자열로 만들었을 때의 최대 길이
+     */
+    private int maxLength = 8192;
+
+    /**
+     * 남길 파라메터 이름 목록. 비어있으면 모든 이름을 남긴다.
+     */
+    private List<String> allowedNames = new ArrayList<>();
+
+    public QueryLimits toLimits() {
+      return QueryLimits.of(maxParameters, maxNameLength, maxValueLength, maxLength).withAllowedNames(allowedNames);
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Json {
+    /**
+     * JsonUtils 에서 컨텍스트의 ObjectMapper 를 사용할지 여부
+     */
+    private boolean useContextMapper = true;
+
+    /**
+     * 시작 시 ObjectReader, ObjectWriter 를 미리 만들 DTO 타입
+     */
+    private List<Class<?>> warmupTypes = new ArrayList<>();
+  }
+
+  @Getter
+  @Setter
+  public static class Freemarker {
+    /**
+     * parameterUtils, stringUtils, unitConverter, jsonUtils 를 공용 변수로 등록할지 여부
+     */
+    private boolean templateModels = true;
+
+    /**
+     * parameterUtils 가 분석하여 캐시할 문자열 파라메터 구문의 최대 개수
+     */
+    private int parameterCacheSize = 256;
+
+    /**
+     * parameterUtils 의 mergeRange 가 만드는 최대 개수 (10000 이하). 넘으면 템플릿 오류가 된다.
+     */
+    private int maxRangeSize = 1000;
+
+    /**
+     * 템플릿 파일이 바뀌었는지 확인하는 간격. spring.freemarker.settings.template_update_delay 가 있으면 사용하지 않는다.
+     */
+    private Duration templateUpdateDelay = Duration.ofMinutes(1);
+
+    /**
+     * 항상 메모리에 유지할 템플릿 수. spring.freemarker.settings.cache_storage 가 있으면 사용하지 않는다.
+     */
+    private int cacheStrongSize = 256;
+
+    /**
+     * 메모리가 부족하면 해제될 수 있는 템플릿 수
+     */
+    private int cacheSoftSize = 2048;
+
+    private final Metrics metrics = new Metrics();
+
+    private final Async async = new Async();
+
+    private final Fragment fragment = new Fragment();
+  }
+
+  @Getter
+  @Setter
+  public static class Metrics {
+    /**
+     * 템플릿 메서드 호출을 Micrometer 로 기록할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 호출 한번에 할당한 메모리 (freemarker.method.allocation) 를 기록할지 여부.
+     * 호출마다 스레드 할당량을 두번 읽으므로 원인을 찾을 때만 사용한다.
+     */
+    private boolean allocation = false;
+  }
+
+  /**
+   * fragmentCache 지시자가 렌더링 결과를 저장하는 캐시
+   */
+  @Getter
+  @Setter
+  public static class Fragment {
+    /**
+     * 저장할 최대 개수. 넘으면 가장 오래 사용하지 않은 결과를 버린다.
+     * 결과의 개수만 제한하며 전체 크기 (bytes) 는 제한하지 않는다.
+     */
+    private int maxSize = 1000;
+
+    /**
+     * 저장한 결과를 사용할 시간. 지시자의 ttl 인자가 있으면 사용하지 않는다.
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+
+    /**
+     * 같은 결과를 렌더링 중인 다른 요청을 기다리는 시간. 넘으면 저장하지 않고 직접 렌더링한다.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+  }
+
+  /**
+   * FreeMarker 템플릿을 요청 스레드가 아닌 실행기에서 렌더링한다. 요청은 서블릿 비동기로 처리한다.
+   */
+  @Getter
+  @Setter
+  public static class Async {
+    /**
+     * 비동기 렌더링을 사용할지 여부. 컨트롤러가 반환하면 바로 렌더링하므로 HandlerInterceptor 의 postHandle 에서
+     * 추가한 모델 값은 사용하지 않으며 뷰는 FreeMarkerViewResolver 로만 찾는다 (ViewResolver 목록을 사용하지 않는다).
+     * 렌더링 스레드에는 RequestContextHolder, LocaleContextHolder 만 옮기며 그외 값은 TaskDecorator 빈으로 옮긴다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JVM 이 가상 스레드를 지원하면 (Java 21 이상) 가상 스레드를 사용할지 여부
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * 가상 스레드를 사용하지 않을 때 렌더링 스레드 수
+     */
+    private int poolSize = 64;
+
+    /**
+     * 가상 스레드를 사용하지 않을 때 렌더링 대기열 크기. 가득 차면 요청 스레드에서 렌더링한다.
+     */
+    private int queueCapacity = 1024;
+  }
+}
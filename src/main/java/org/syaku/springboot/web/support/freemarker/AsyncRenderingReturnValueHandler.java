@@ -0,0 +1,344 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.mvc.method.annotation.ModelAndViewMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.ViewNameMethodReturnValueHandler;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.servlet.view.AbstractTemplateView;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 뷰 이름 (String) 이나 {@link ModelAndView} 를 반환하는 컨트롤러의 FreeMarker 템플릿을 요청 스레드가 아닌 실행기에서 렌더링한다.
+ * 요청은 서블릿 비동기 ({@link DeferredResult}) 로 처리하며 요청 스레드는 렌더링을 넘긴 뒤 바로 반환된다.
+ * 템플릿 메서드나 템플릿이 읽는 데이터가 느려도 요청 스레드가 모자라지 않는다.
+ *
+ * 렌더링 결과는 메모리에 담고 비동기 디스패치에서 응답에 쓴다. 헤더와 상태 코드는 응답에 바로 적용한다.
+ *
+ * 렌더링하는 스레드에는 요청의 RequestContextHolder, LocaleContextHolder 만 설정한다.
+ * SecurityContextHolder, MDC 처럼 다른 ThreadLocal 에 담긴 값이 필요하면 {@link TaskDecorator} 로 옮긴다.
+ * 데코레이터는 요청 스레드에서 호출하므로 그때 값을 읽어 두고 렌더링 스레드에서 설정한다.
+ *
+ * 동기 렌더링과 다른 점
+ * 컨트롤러가 반환하면 바로 렌더링을 시작하므로 HandlerInterceptor 의 postHandle 에서 모델에 추가한 값은 템플릿에 보이지 않는다.
+ * postHandle 은 비동기 디스패치에서 렌더링이 끝난 뒤 호출된다.
+ * 뷰는 생성자로 받은 {@link ViewResolver} 하나로 찾는다. DispatcherServlet 의 ViewResolver 목록
+ * (ContentNegotiatingViewResolver 포함) 과 순서는 사용하지 않는다.
+ *
+ * 아래의 경우는 기존 반환 값 처리기가 처리하고 요청 스레드에서 렌더링한다.
+ * {@link ViewResolver} 가 FreeMarker 템플릿 ({@link AbstractTemplateView}) 이 아닌 뷰를 반환하는 경우 (redirect:, forward: 포함)
+ * redirect 패턴 ({@link #setRedirectPatterns(String...)}) 과 일치하는 뷰 이름
+ * 비동기를 지원하지 않는 요청, include 요청, View 객체를 가진 ModelAndView
+ * 실행기가 작업을 거부한 경우 (RejectedExecutionException, 스레드 풀의 대기열이 가득 찬 경우)
+ *
+ * 요청 시간 제한은 spring.mvc.async.request-timeout 을 따른다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see FreeMarkerAsyncRenderingAutoConfiguration
+ * @see RenderingExecutors
+ */
+public class AsyncRenderingReturnValueHandler implements HandlerMethodReturnValueHandler {
+  private final ViewResolver viewResolver;
+  private final Executor executor;
+  private final TaskDecorator taskDecorator;
+  private final HandlerMethodReturnValueHandler fallback;
+  private String[] redirectPatterns;
+
+  /**
+   * @param viewResolver FreeMarker 뷰를 찾는 resolver
+   * @param executor 렌더링 실행기
+   */
+  public AsyncRenderingReturnValueHandler(ViewResolver viewResolver, Executor executor) {
+    this(viewResolver, executor, null, new HandlerMethodReturnValueHandlerComposite()
+      .addHandler(new ModelAndViewMethodReturnValueHandler())
+      .addHandler(new ViewNameMethodReturnValueHandler()));
+  }
+
+  /**
+   * @param viewResolver FreeMarker 뷰를 찾는 resolver
+   * @param executor 렌더링 실행기
+   * @param taskDecorator 렌더링 작업에 요청 스레드의 값을 옮기는 데코레이터. 없으면 null
+   * @param fallback 실행기에 넘기지 않는 반환 값을 처리할 기존 처리기 (RequestMappingHandlerAdapter 의 처리기 목록)
+   */
+  public AsyncRenderingReturnValueHandler(ViewResolver viewResolver, Executor executor, TaskDecorator taskDecorator,
+    HandlerMethodReturnValueHandler fallback) {
+    this.viewResolver = viewResolver;
+    this.executor = executor;
+    this.taskDecorator = taskDecorator;
+    this.fallback = fallback;
+  }
+
+  /**
+   * redirect: 외에 redirect 로 처리할 뷰 이름 패턴. {@link ViewNameMethodReturnValueHandler#setRedirectPatterns(String...)}
+   * 와 같으며 일치하는 뷰 이름은 실행기에 넘기지 않는다.
+   */
+  public void setRedirectPatterns(String... redirectPatterns) {
+    this.redirectPatterns = redirectPatterns;
+  }
+
+  public String[] getRedirectPatterns() {
+    return redirectPatterns;
+  }
+
+  @Override
+  public boolean supportsReturnType(MethodParameter returnType) {
+    if (AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), ResponseBody.class)
+      || returnType.hasMethodAnnotation(ResponseBody.class)) {
+      return false;
+    }
+
+    Class<?> type = returnType.getParameterType();
+    return CharSequence.class.isAssignableFrom(type) || ModelAndView.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+    NativeWebRequest webRequest) throws Exception {
+    if (!render(returnValue, mavContainer, webRequest)) {
+      fallback.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+    }
+  }
+
+  /**
+   * @return 실행기에 렌더링을 넘겼으면 true. false 인 경우 기존 처리를 따른다.
+   */
+  private boolean render(Object returnValue, ModelAndViewContainer mavContainer, NativeWebRequest webRequest)
+    throws Exception {
+    ModelAndView modelAndView = null;
+    String viewName;
+    if (returnValue instanceof ModelAndView) {
+      modelAndView = (ModelAndView) returnValue;
+      if (!modelAndView.isReference()) {
+        return false;
+      }
+      viewName = modelAndView.getViewName();
+    } else if (returnValue instanceof CharSequence) {
+      viewName = returnValue.toString();
+    } else {
+      return false;
+    }
+    if (PatternMatchUtils.simpleMatch(redirectPatterns, viewName)) {
+      return false;
+    }
+
+    HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+    HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+    if (request == null || response == null || !request.isAsyncSupported() || WebUtils.isIncludeRequest(request)) {
+      return false;
+    }
+
+    Locale locale = RequestContextUtils.getLocale(request);
+    View view = viewResolver.resolveViewName(viewName, locale);
+    if (!(view instanceof AbstractTemplateView)) {
+      return false;
+    }
+
+    if (modelAndView != null) {
+      mavContainer.addAllAttributes(modelAndView.getModel());
+      if (modelAndView.getStatus() != null) {
+        mavContainer.setStatus(modelAndView.getStatus());
+        response.setStatus(modelAndView.getStatus().value());
+      }
+    }
+
+    // 실행기에 먼저 넘긴다. 결과는 비동기 처리를 시작하기 전에 나와도 DeferredResult 가 보관한다.
+    // 실행기가 받지 않으면 (대기열이 가득 참) 비동기를 시작하지 않고 기존 처리기로 요청 스레드에서 렌더링한다.
+    Map<String, Object> model = new LinkedHashMap<>(mavContainer.getModel());
+    DeferredResult<View> result = new DeferredResult<>();
+    Runnable task = () -> render(view, model, locale, request, response, result);
+    try {
+      executor.execute(taskDecorator == null ? task : taskDecorator.decorate(task));
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+    WebAsyncUtils.getAsyncManager(webRequest).startDeferredResultProcessing(result, mavContainer);
+    return true;
+  }
+
+  private static void render(View view, Map<String, Object> model, Locale locale,
+    HttpServletRequest request, HttpServletResponse response, DeferredResult<View> result) {
+    // 실행기가 호출한 스레드에서 바로 실행할 수도 있으므로 지우지 않고 이전 값으로 되돌린다.
+    RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+    LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    LocaleContextHolder.setLocale(locale);
+    try {
+      BufferedResponse buffered = new BufferedResponse(response);
+      view.render(model, request, buffered);
+      result.setResult(buffered.toView());
+    } catch (Exception e) {
+      result.setErrorResult(e);
+    } finally {
+      LocaleContextHolder.setLocaleContext(previousLocale);
+      RequestContextHolder.setRequestAttributes(previousAttributes);
+    }
+  }
+
+  /**
+   * 본문을 메모리에 담는 응답. 헤더와 상태 코드는 원래 응답에 적용한다.
+   */
+  private static final class BufferedResponse extends HttpServletResponseWrapper {
+    private String contentType;
+    private CharArrayWriter chars;
+    private PrintWriter writer;
+    private ByteArrayOutputStream bytes;
+    private ServletOutputStream outputStream;
+
+    private BufferedResponse(HttpServletResponse response) {
+      super(response);
+      this.contentType = response.getContentType();
+    }
+
+    @Override
+    public void setContentType(String type) {
+      this.contentType = type;
+    }
+
+    @Override
+    public String getContentType() {
+      return contentType;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+      if (outputStream != null) {
+        throw new IllegalStateException("getOutputStream() has already been called");
+      }
+      if (writer == null) {
+        chars = new CharArrayWriter(4096);
+        writer = new PrintWriter(chars);
+      }
+      return writer;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+      if (writer != null) {
+        throw new IllegalStateException("getWriter() has already been called");
+      }
+      if (outputStream == null) {
+        bytes = new ByteArrayOutputStream(4096);
+        outputStream = new ServletOutputStream() {
+          @Override
+          public boolean isReady() {
+            return true;
+          }
+
+          @Override
+          public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public void write(int b) {
+            bytes.write(b);
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+          }
+        };
+      }
+      return outputStream;
+    }
+
+    @Override
+    public void flushBuffer() {
+      if (writer != null) {
+        writer.flush();
+      }
+    }
+
+    @Override
+    public boolean isCommitted() {
+      return false;
+    }
+
+    @Override
+    public void resetBuffer() {
+      if (chars != null) {
+        chars.reset();
+      }
+      if (bytes != null) {
+        bytes.reset();
+      }
+    }
+
+    @Override
+    public void reset() {
+      super.reset();
+      resetBuffer();
+    }
+
+    private View toView() {
+      flushBuffer();
+      return new RenderedView(contentType, chars, bytes);
+    }
+  }
+
+  /**
+   * 렌더링 결과를 응답에 쓰는 뷰. 비동기 디스패치에서 사용한다.
+   */
+  private static final class RenderedView implements View {
+    private final String contentType;
+    private final CharArrayWriter chars;
+    private final ByteArrayOutputStream bytes;
+
+    private RenderedView(String contentType, CharArrayWriter chars, ByteArrayOutputStream bytes) {
+      this.contentType = contentType;
+      this.chars = chars;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public String getContentType() {
+      return contentType;
+    }
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+      if (contentType != null) {
+        response.setContentType(contentType);
+      }
+      if (chars != null) {
+        chars.writeTo(response.getWriter());
+      } else if (bytes != null) {
+        bytes.writeTo(response.getOutputStream());
+      }
+    }
+  }
+}
@@ -0,0 +1,310 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 렌더링한 템플릿 일부 (fragment) 를 저장하는 캐시. {@link FragmentCacheDirective} 가 사용한다.
+ *
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 버리고 (LRU), 저장한 뒤 ttl 이 지난 항목은 사용하지 않는다.
+ * 최대 개수는 항목 수이며 저장한 문자열의 전체 크기 (bytes) 는 제한하지 않는다.
+ * 같은 키를 여러 요청이 동시에 찾지 못하면 한 요청만 렌더링하고 나머지는 그 결과를 기다린다.
+ * 렌더링 중 오류가 나면 기다리던 요청도 같은 오류를 받으며 결과는 저장하지 않는다.
+ * 기다리는 시간은 waitTimeout 까지이며 넘으면 직접 렌더링한다. 렌더링 하나가 멈춰도 같은 키의 요청이 모두 멈추지 않는다.
+ * 렌더링 중인 스레드가 같은 키를 다시 찾으면 (재귀 매크로, 같은 지시자를 가진 include) 기다리지 않고 직접 렌더링한다.
+ * 직접 렌더링한 결과는 저장하지 않는다.
+ *
+ * 조회, 렌더링, 버린 횟수를 세며 Micrometer 를 사용하면 cache.gets, cache.evictions 등으로 기록한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see FreeMarkerTemplateModelAutoConfiguration
+ */
+public class FragmentCache {
+  private final int maxSize;
+  /**
+   * 다른 요청의 렌더링을 기다리는 기본 시간
+   */
+  public static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Duration ttl;
+  private final long waitTimeout;
+  private final LongSupplier ticker;
+  private final Map<String, Entry> entries;
+  private final ConcurrentMap<String, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+  private final ThreadLocal<Set<String>> rendering = new ThreadLocal<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder collapsed = new LongAdder();
+  private final LongAdder puts = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder bypassed = new LongAdder();
+
+  /**
+   * @param maxSize 저장할 최대 개수 (크기가 아닌 항목 수)
+   * @param ttl 저장한 항목을 사용할 시간
+   */
+  public FragmentCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, DEFAULT_WAIT_TIMEOUT);
+  }
+
+  /**
+   * @param maxSize 저장할 최대 개수 (크기가 아닌 항목 수)
+   * @param ttl 저장한 항목을 사용할 시간
+   * @param waitTimeout 다른 요청의 렌더링을 기다리는 시간. 넘으면 직접 렌더링한다.
+   */
+  public FragmentCache(int maxSize, Duration ttl, Duration waitTimeout) {
+    this(maxSize, ttl, waitTimeout, System::nanoTime);
+  }
+
+  FragmentCache(int maxSize, Duration ttl, LongSupplier ticker) {
+    this(maxSize, ttl, DEFAULT_WAIT_TIMEOUT, ticker);
+  }
+
+  FragmentCache(int maxSize, Duration ttl, Duration waitTimeout, LongSupplier ticker) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be greater than 0");
+    }
+
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    this.waitTimeout = waitTimeout.toNanos();
+    this.ticker = ticker;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > FragmentCache.this.maxSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * 저장한 결과가 없으면 renderer 로 만들어 저장한다.
+   * @param key 키
+   * @param renderer 결과를 만드는 작업
+   * @return 결과
+   * @throws Exception renderer 의 오류
+   */
+  public String get(String key, Callable<String> renderer) throws Exception {
+    return get(key, ttl, renderer);
+  }
+
+  /**
+   * @param key 키
+   * @param ttl 이 결과를 사용할 시간. null 이면 기본 값을 사용하고 0 이하면 저장하지 않는다.
+   * @param renderer 결과를 만드는 작업
+   * @return 결과
+   * @throws Exception renderer 의 오류
+   */
+  public String get(String key, Duration ttl, Callable<String> renderer) throws Exception {
+    String value = lookup(key);
+    if (value != null) {
+      hits.increment();
+      return value;
+    }
+
+    Set<String> keys = rendering.get();
+    if (keys != null && keys.contains(key)) {
+      // 자기 자신의 렌더링을 기다리면 끝나지 않는다.
+      return bypass(renderer);
+    }
+
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CompletableFuture<String> running = loading.putIfAbsent(key, future);
+    if (running != null) {
+      collapsed.increment();
+      try {
+        return await(running);
+      } catch (TimeoutException e) {
+        collapsed.decrement();
+        return bypass(renderer);
+      }
+    }
+
+    if (keys == null) {
+      keys = new HashSet<>();
+      rendering.set(keys);
+    }
+    keys.add(key);
+    try {
+      // 먼저 렌더링한 요청이 저장한 직후일 수 있다.
+      value = lookup(key);
+      if (value != null) {
+        hits.increment();
+      } else {
+        misses.increment();
+        value = render(renderer);
+        put(key, value, ttl == null ? this.ttl : ttl);
+      }
+      future.complete(value);
+      return value;
+    } catch (Exception | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        rendering.remove();
+      }
+      loading.remove(key, future);
+    }
+  }
+
+  private String await(CompletableFuture<String> running) throws Exception {
+    try {
+      return running.get(waitTimeout, TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      throw (Error) cause;
+    }
+  }
+
+  /**
+   * 저장하지 않고 직접 렌더링한다.
+   */
+  private String bypass(Callable<String> renderer) throws Exception {
+    misses.increment();
+    bypassed.increment();
+    return render(renderer);
+  }
+
+  private static String render(Callable<String> renderer) throws Exception {
+    String value = renderer.call();
+    return value == null ? "" : value;
+  }
+
+  private String lookup(String key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expiresAt - ticker.getAsLong() <= 0) {
+        entries.remove(key);
+        evictions.increment();
+        return null;
+      }
+      return entry.value;
+    }
+  }
+
+  private void put(String key, String value, Duration ttl) {
+    if (ttl.isZero() || ttl.isNegative()) {
+      return;
+    }
+
+    Entry entry = new Entry(value, ticker.getAsLong() + ttl.toNanos());
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+    puts.increment();
+  }
+
+  /**
+   * prefix 로 시작하는 키를 모두 지운다. 템플릿 이름을 전달하면 그 템플릿의 결과를 지운다.
+   * @param prefix 키 prefix
+   */
+  public void invalidate(String prefix) {
+    synchronized (entries) {
+      for (Iterator<String> iterator = entries.keySet().iterator(); iterator.hasNext(); ) {
+        if (iterator.next().startsWith(prefix)) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public Duration getWaitTimeout() {
+    return Duration.ofNanos(waitTimeout);
+  }
+
+  /**
+   * @return 저장한 결과를 사용한 횟수. 다른 요청의 렌더링을 기다린 횟수를 포함한다.
+   */
+  public long getHitCount() {
+    return hits.sum() + collapsed.sum();
+  }
+
+  /**
+   * @return 렌더링한 횟수
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return 다른 요청의 렌더링을 기다린 횟수
+   */
+  public long getCollapsedCount() {
+    return collapsed.sum();
+  }
+
+  /**
+   * @return 기다리는 시간이 지나거나 같은 스레드가 다시 찾아 저장하지 않고 렌더링한 횟수. 렌더링 횟수에 포함된다.
+   */
+  public long getBypassCount() {
+    return bypassed.sum();
+  }
+
+  public long getPutCount() {
+    return puts.sum();
+  }
+
+  /**
+   * @return 최대 개수를 넘거나 ttl 이 지나 버린 횟수
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  private static final class Entry {
+    private final String value;
+    private final long expiresAt;
+
+    private Entry(String value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.syaku.springboot.web.utils.ParameterUtils;
+
+import freemarker.core.DirectiveCallPlace;
+import freemarker.core.Environment;
+import freemarker.ext.servlet.HttpRequestHashModel;
+import freemarker.template.TemplateDirectiveBody;
+import freemarker.template.TemplateDirectiveModel;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+
+/**
+ * FreeMarker 지시자용 {@link FragmentCache}. 본문을 렌더링한 결과를 저장해두고 같은 키로 요청하면 다시 렌더링하지 않는다.
+ * 본문에 사용한 parameterUtils 같은 템플릿 메서드도 다시 호출하지 않는다.
+ *
+ * 키는 뷰 (메인 템플릿) 이름, 지시자 위치 (또는 key), 요청 경로 (request URI), 요청 파라메터를
+ * {@link ParameterUtils#canonical(Map)} 으로 만든 문자열이다. /board/1, /board/2 처럼 경로 변수만 다른 요청은 다른 키가 된다.
+ * 파라메터 순서가 달라도 같은 키가 되며 요청 파라메터에는 parameterUtils 와 같은 제한을 적용한다.
+ *
+ * some.ftl
+ * <@fragmentCache>... 목록 ...</@fragmentCache>
+ * <@fragmentCache key="sidebar" ttl=300 params="category">... 분류별 사이드바 ...</@fragmentCache>
+ *
+ * key 지시자를 구분하는 이름. 없으면 템플릿 이름과 지시자의 줄, 칸을 사용한다.
+ * ttl 저장한 결과를 사용할 시간 (초). 없으면 캐시의 기본 값
+ * params 키에 사용할 파라메터 이름 (쉼표로 구분). 없으면 모든 파라메터를 사용한다.
+ *
+ * 모든 사용자에게 같은 내용만 감싸야 한다. 사용자, 세션마다 다른 내용은 키에 들어가지 않는다.
+ * 캐시는 저장한 결과의 개수만 제한하고 크기 (bytes) 는 제한하지 않으므로 큰 본문을 경로, 파라메터마다 저장하지 않도록 한다.
+ * 저장한 결과를 사용하면 본문을 실행하지 않으므로 본문에서 변수를 할당하면 안된다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see FragmentCache
+ */
+public class FragmentCacheDirective implements TemplateDirectiveModel {
+  private static final String KEY = "key";
+  private static final String TTL = "ttl";
+  private static final String PARAMS = "params";
+  private static final String REQUEST = "Request";
+
+  private final FragmentCache cache;
+
+  public FragmentCacheDirective(FragmentCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+    throws TemplateException, IOException {
+    if (body == null) {
+      return;
+    }
+
+    String id = null;
+    Duration ttl = null;
+    List<String> names = Collections.emptyList();
+    for (Object entry : params.entrySet()) {
+      Map.Entry param = (Map.Entry) entry;
+      String name = (String) param.getKey();
+      TemplateModel value = (TemplateModel) param.getValue();
+      if (KEY.equals(name)) {
+        id = string(name, value);
+      } else if (TTL.equals(name)) {
+        if (!(value instanceof TemplateNumberModel)) {
+          throw new TemplateModelException("The \"" + name + "\" parameter must be a number");
+        }
+        ttl = Duration.ofSeconds(((TemplateNumberModel) value).getAsNumber().longValue());
+      } else if (PARAMS.equals(name)) {
+        names = Arrays.asList(string(name, value).split("\\s*,\\s*"));
+      } else {
+        throw new TemplateModelException("Unsupported parameter: " + name);
+      }
+    }
+
+    String key = key(env, id, names);
+    String result;
+    try {
+      result = cache.get(key, ttl, () -> {
+        StringWriter out = new StringWriter(1024);
+        body.render(out);
+        return out.toString();
+      });
+    } catch (TemplateException | IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new TemplateModelException(e);
+    }
+    env.getOut().write(result);
+  }
+
+  private static String key(Environment env, String id, List<String> names) throws TemplateModelException {
+    StringBuilder key = new StringBuilder(128).append(env.getMainTemplate().getName()).append('#');
+    if (id != null) {
+      key.append(id);
+    } else {
+      DirectiveCallPlace place = env.getCurrentDirectiveCallPlace();
+      key.append(place.getTemplate().getName()).append(':').append(place.getBeginLine()).append(':')
+        .append(place.getBeginColumn());
+    }
+
+    TemplateModel request = env.getVariable(REQUEST);
+    if (request instanceof HttpRequestHashModel) {
+      HttpServletRequest httpRequest = ((HttpRequestHashModel) request).getRequest();
+      Map<String, String[]> parameters = ParameterUtilsTemplateModel.parameters(httpRequest);
+      key.append('@').append(httpRequest.getRequestURI()).append('?')
+        .append(ParameterUtils.canonical(parameters, names));
+    }
+    return key.toString();
+  }
+
+  private static String string(String name, TemplateModel value) throws TemplateModelException {
+    if (!(value instanceof TemplateScalarModel)) {
+      throw new TemplateModelException("The \"" + name + "\" parameter must be a string");
+    }
+    return ((TemplateScalarModel) value).getAsString();
+  }
+}
@@ -0,0 +1,65 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * {@link FragmentCache} 를 Micrometer 캐시 메트릭으로 기록한다.
+ *
+ * cache.gets (result=hit|miss), cache.puts, cache.evictions, cache.size
+ * cache.gets.collapsed 다른 요청의 렌더링을 기다린 횟수 (hit 에 포함된다)
+ * cache.gets.bypassed 기다리는 시간이 지나거나 재귀로 저장하지 않고 렌더링한 횟수 (miss 에 포함된다)
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see FreeMarkerMetricsAutoConfiguration
+ */
+class FragmentCacheMetrics extends CacheMeterBinder {
+  static final String CACHE_NAME = "freemarker.fragment";
+
+  private final FragmentCache cache;
+
+  FragmentCacheMetrics(FragmentCache cache, Iterable<Tag> tags) {
+    super(cache, CACHE_NAME, tags);
+    this.cache = cache;
+  }
+
+  @Override
+  protected Long size() {
+    return (long) cache.size();
+  }
+
+  @Override
+  protected long hitCount() {
+    return cache.getHitCount();
+  }
+
+  @Override
+  protected Long missCount() {
+    return cache.getMissCount();
+  }
+
+  @Override
+  protected Long evictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  @Override
+  protected long putCount() {
+    return cache.getPutCount();
+  }
+
+  @Override
+  protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets.collapsed", cache, FragmentCache::getCollapsedCount)
+      .tags(getTagsWithCacheName())
+      .description("The number of times cache lookup waited for another request to render the same key")
+      .register(registry);
+    FunctionCounter.builder("cache.gets.bypassed", cache, FragmentCache::getBypassCount)
+      .tags(getTagsWithCacheName())
+      .description("The number of times cache lookup rendered without caching after a wait timeout or re-entry")
+      .register(registry);
+  }
+}
@@ -0,0 +1,92 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ViewNameMethodReturnValueHandler;
+import org.springframework.web.servlet.view.freemarker.FreeMarkerViewResolver;
+import org.syaku.springboot.web.support.WebUtilsProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FreeMarker 템플릿을 요청 스레드가 아닌 실행기에서 렌더링하는 {@link AsyncRenderingReturnValueHandler} 를 등록한다.
+ * 기본 처리기보다 먼저 사용하도록 RequestMappingHandlerAdapter 의 반환 값 처리기 맨 앞에 둔다.
+ * 뷰는 스프링 부트가 등록한 FreeMarkerViewResolver (FreeMarkerConfigurer 설정) 로 찾는다.
+ * 실행기에 넘기지 않는 반환 값은 기존 처리기 목록이 처리하며 redirect 패턴도 기존 ViewNameMethodReturnValueHandler 를 따른다.
+ * postHandle, ViewResolver 목록에 대한 제한은 {@link AsyncRenderingReturnValueHandler} 를 참고한다.
+ *
+ * 실행기는 JVM 이 지원하면 가상 스레드, 그렇지 않으면 크기가 정해진 스레드 풀이다 ({@link RenderingExecutors}).
+ * freeMarkerRenderingExecutor 이름의 빈을 등록하면 그 실행기를 사용한다.
+ * {@link TaskDecorator} 빈이 하나 있으면 렌더링 작업에 적용한다. SecurityContextHolder, MDC 등을 렌더링 스레드로 옮길 때 사용한다.
+ *
+ * application.properties
+ * syaku.web.freemarker.async.enabled=true
+ * syaku.web.freemarker.async.virtual-threads=true
+ * syaku.web.freemarker.async.pool-size=64
+ * syaku.web.freemarker.async.queue-capacity=1024
+ * spring.mvc.async.request-timeout=30s
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({ freemarker.template.Configuration.class, FreeMarkerViewResolver.class })
+@ConditionalOnProperty(prefix = "syaku.web.freemarker.async", name = "enabled", havingValue = "true")
+@AutoConfigureAfter({ FreeMarkerAutoConfiguration.class, WebMvcAutoConfiguration.class })
+@EnableConfigurationProperties(WebUtilsProperties.class)
+public class FreeMarkerAsyncRenderingAutoConfiguration {
+  static final String EXECUTOR = "freeMarkerRenderingExecutor";
+
+  @Bean(name = EXECUTOR, destroyMethod = "shutdown")
+  @ConditionalOnMissingBean(name = EXECUTOR)
+  public ExecutorService freeMarkerRenderingExecutor(WebUtilsProperties properties) {
+    WebUtilsProperties.Async async = properties.getFreemarker().getAsync();
+    return RenderingExecutors.newExecutor(async.isVirtualThreads(), async.getPoolSize(), async.getQueueCapacity());
+  }
+
+  @Bean
+  public InitializingBean asyncRenderingInitializer(ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter,
+    ObjectProvider<FreeMarkerViewResolver> viewResolver, @Qualifier(EXECUTOR) ExecutorService executor,
+    ObjectProvider<TaskDecorator> taskDecorator) {
+    return () -> {
+      RequestMappingHandlerAdapter adapter = handlerAdapter.getIfUnique();
+      FreeMarkerViewResolver resolver = viewResolver.getIfUnique();
+      if (adapter == null || resolver == null || adapter.getReturnValueHandlers() == null) {
+        return;
+      }
+
+      List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(adapter.getReturnValueHandlers());
+      AsyncRenderingReturnValueHandler asyncHandler = new AsyncRenderingReturnValueHandler(resolver, executor,
+        taskDecorator.getIfUnique(), new HandlerMethodReturnValueHandlerComposite().addHandlers(handlers));
+      for (HandlerMethodReturnValueHandler handler : handlers) {
+        if (handler instanceof ViewNameMethodReturnValueHandler) {
+          asyncHandler.setRedirectPatterns(((ViewNameMethodReturnValueHandler) handler).getRedirectPatterns());
+        }
+      }
+      handlers.add(0, asyncHandler);
+      adapter.setReturnValueHandlers(handlers);
+      log.debug("FreeMarker async rendering enabled: {}", executor);
+    };
+  }
+}
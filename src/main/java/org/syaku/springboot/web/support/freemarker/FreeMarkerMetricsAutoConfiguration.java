@@ -0,0 +1,81 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerAutoConfiguration;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.view.freemarker.FreeMarkerConfig;
+import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
+import org.syaku.springboot.web.support.WebUtilsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 템플릿 메서드 호출을 Micrometer 로 기록하는 {@link MeteredFreeMarkerConfigurer} 를 등록한다.
+ * Actuator 를 사용하면 /actuator/metrics/freemarker.method.calls 로 확인한다.
+ * {@link FragmentCache} 의 조회, 렌더링 횟수는 cache.gets (cache=freemarker.fragment) 로 기록한다.
+ *
+ * 사용할 MeterRegistry 빈이 하나 (또는 @Primary) 있고 FreeMarkerConfig 빈이 없을 때만 스프링 부트의 FreeMarkerConfigurer 대신 등록한다.
+ * Micrometer 만 클래스패스에 있고 MeterRegistry 빈이 없으면 스프링 부트가 설정을 그대로 만든다.
+ * 대신 등록할 때는 스프링 부트 (AbstractFreeMarkerConfiguration#applyProperties) 와 같이
+ * template-loader-path, prefer-file-system-access, charset, settings 를 적용한다.
+ * 스프링 부트 2.0 이 FreeMarkerConfigurer 에 적용하는 spring.freemarker 설정은 이 네가지 뿐이다.
+ *
+ * application.properties
+ * syaku.web.freemarker.metrics.enabled=true
+ * syaku.web.freemarker.metrics.allocation=false
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({ MeterRegistry.class, freemarker.template.Configuration.class, FreeMarkerConfigurer.class })
+@ConditionalOnProperty(prefix = "syaku.web.freemarker.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureBefore(FreeMarkerAutoConfiguration.class)
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties({ WebUtilsProperties.class, FreeMarkerProperties.class })
+public class FreeMarkerMetricsAutoConfiguration {
+
+  @Bean
+  @ConditionalOnSingleCandidate(MeterRegistry.class)
+  @ConditionalOnMissingBean(FreeMarkerConfig.class)
+  public FreeMarkerConfigurer freeMarkerConfigurer(FreeMarkerProperties properties, WebUtilsProperties webUtilsProperties,
+    MeterRegistry registry) {
+    FreeMarkerConfigurer configurer = new MeteredFreeMarkerConfigurer(registry,
+      webUtilsProperties.getFreemarker().getMetrics().isAllocation());
+
+    configurer.setTemplateLoaderPaths(properties.getTemplateLoaderPath());
+    configurer.setPreferFileSystemAccess(properties.isPreferFileSystemAccess());
+    configurer.setDefaultEncoding(properties.getCharsetName());
+    Properties settings = new Properties();
+    settings.putAll(properties.getSettings());
+    configurer.setFreemarkerSettings(settings);
+    return configurer;
+  }
+
+  @Bean
+  public InitializingBean fragmentCacheMetricsInitializer(ObjectProvider<MeterRegistry> registry,
+    ObjectProvider<FragmentCache> fragmentCache) {
+    return () -> {
+      MeterRegistry meterRegistry = registry.getIfUnique();
+      FragmentCache cache = fragmentCache.getIfUnique();
+      if (meterRegistry != null && cache != null) {
+        new FragmentCacheMetrics(cache, Collections.emptyList()).bindTo(meterRegistry);
+      }
+    };
+  }
+}
@@ -0,0 +1,132 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerAutoConfiguration;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.syaku.springboot.web.support.WebUtilsAutoConfiguration;
+import org.syaku.springboot.web.support.WebUtilsProperties;
+import org.syaku.springboot.web.utils.TextAbbreviator;
+import org.syaku.springboot.web.utils.UrlCodec;
+
+import freemarker.cache.MruCacheStorage;
+
+/**
+ * 템플릿 메서드를 애플리케이션 시작 시 한번만 만들어 FreeMarker 공용 변수로 등록한다.
+ * 요청마다 데이터 모델에 넣거나 @PostConstruct 에서 직접 등록하지 않아도 된다.
+ *
+ * parameterUtils {@link ParameterUtilsTemplateModel}
+ * stringUtils {@link StringUtilsTemplateModel}
+ * unitConverter {@link UnitConverterTemplateModel}
+ * jsonUtils {@link JsonUtilsTemplateModel}
+ * fragmentCache {@link FragmentCacheDirective} ({@link FragmentCache} 빈을 사용한다.)
+ *
+ * 같은 이름의 공용 변수가 이미 있으면 등록하지 않는다.
+ * 운영 환경에 맞게 템플릿 변경 확인 간격을 늘리고 자주 쓰는 템플릿을 메모리에 유지한다 (MruCacheStorage).
+ *
+ * application.properties
+ * syaku.web.freemarker.template-models=true
+ * syaku.web.freemarker.max-range-size=1000
+ * syaku.web.freemarker.template-update-delay=1m
+ * syaku.web.freemarker.cache-strong-size=256
+ * syaku.web.freemarker.cache-soft-size=2048
+ * syaku.web.freemarker.fragment.max-size=1000
+ * syaku.web.freemarker.fragment.ttl=1m
+ * syaku.web.freemarker.fragment.wait-timeout=5s
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Configuration
+@ConditionalOnClass(freemarker.template.Configuration.class)
+@ConditionalOnProperty(prefix = "syaku.web.freemarker", name = "template-models", matchIfMissing = true)
+@AutoConfigureAfter({ FreeMarkerAutoConfiguration.class, WebUtilsAutoConfiguration.class })
+@EnableConfigurationProperties({ WebUtilsProperties.class, FreeMarkerProperties.class })
+public class FreeMarkerTemplateModelAutoConfiguration {
+  private static final String TEMPLATE_UPDATE_DELAY = "template_update_delay";
+  private static final String CACHE_STORAGE = "cache_storage";
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ParameterUtilsTemplateModel parameterUtilsTemplateModel(WebUtilsProperties properties,
+    ObjectProvider<UrlCodec> urlCodec) {
+    WebUtilsProperties.Freemarker freemarker = properties.getFreemarker();
+    return new ParameterUtilsTemplateModel(freemarker.getParameterCacheSize(), urlCodec.getIfAvailable(),
+      freemarker.getMaxRangeSize());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public StringUtilsTemplateModel stringUtilsTemplateModel(ObjectProvider<TextAbbreviator> textAbbreviator) {
+    return new StringUtilsTemplateModel(textAbbreviator.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public UnitConverterTemplateModel unitConverterTemplateModel() {
+    return new UnitConverterTemplateModel();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public JsonUtilsTemplateModel jsonUtilsTemplateModel() {
+    return new JsonUtilsTemplateModel();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public FragmentCache fragmentCache(WebUtilsProperties properties) {
+    WebUtilsProperties.Fragment fragment = properties.getFreemarker().getFragment();
+    return new FragmentCache(fragment.getMaxSize(), fragment.getTtl(), fragment.getWaitTimeout());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public FragmentCacheDirective fragmentCacheDirective(FragmentCache fragmentCache) {
+    return new FragmentCacheDirective(fragmentCache);
+  }
+
+  @Bean
+  public InitializingBean freeMarkerTemplateModelInitializer(ObjectProvider<freemarker.template.Configuration> configuration,
+    WebUtilsProperties properties, FreeMarkerProperties freeMarkerProperties,
+    ParameterUtilsTemplateModel parameterUtils, StringUtilsTemplateModel stringUtils,
+    UnitConverterTemplateModel unitConverter, JsonUtilsTemplateModel jsonUtils, FragmentCacheDirective fragmentCache) {
+    return () -> {
+      freemarker.template.Configuration config = configuration.getIfUnique();
+      if (config == null) {
+        return;
+      }
+
+      setSharedVariable(config, "parameterUtils", parameterUtils);
+      setSharedVariable(config, "stringUtils", stringUtils);
+      setSharedVariable(config, "unitConverter", unitConverter);
+      setSharedVariable(config, "jsonUtils", jsonUtils);
+      setSharedVariable(config, "fragmentCache", fragmentCache);
+
+      WebUtilsProperties.Freemarker freemarker = properties.getFreemarker();
+      Map<String, String> settings = freeMarkerProperties.getSettings();
+      if (!settings.containsKey(TEMPLATE_UPDATE_DELAY)) {
+        config.setTemplateUpdateDelayMilliseconds(freemarker.getTemplateUpdateDelay().toMillis());
+      }
+      if (!settings.containsKey(CACHE_STORAGE)) {
+        config.setCacheStorage(new MruCacheStorage(freemarker.getCacheStrongSize(), freemarker.getCacheSoftSize()));
+      }
+    };
+  }
+
+  private static void setSharedVariable(freemarker.template.Configuration configuration, String name,
+    freemarker.template.TemplateModel model) {
+    if (configuration.getSharedVariable(name) == null) {
+      configuration.setSharedVariable(name, model);
+    }
+  }
+}
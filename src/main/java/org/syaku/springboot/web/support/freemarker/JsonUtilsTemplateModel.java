@@ -0,0 +1,41 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.List;
+
+import org.syaku.springboot.web.utils.JsonUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.utility.DeepUnwrap;
+
+/**
+ * FreeMarker Methods 용 JsonUtils 클래스. 모델 객체를 JSON 문자열로 만든다.
+ * {@link JsonUtils#toScriptString(Object)} 를 사용하므로 문자열 값의 <, >, &, ' 는 \\uXXXX 로 쓰여
+ * 사용자가 입력한 값에 </script> 가 있어도 스크립트를 벗어나지 않는다.
+ *
+ * some.ftl
+ * <script>var post = ${jsonUtils(post)};</script>
+ *
+ * 상태가 없으므로 하나의 객체를 공용 변수로 등록하여 여러 스레드에서 사용한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see JsonUtils#toScriptString(Object)
+ */
+public class JsonUtilsTemplateModel implements TemplateMethodModelEx {
+  @Override
+  public Object exec(List arguments) throws TemplateModelException {
+    if (arguments.size() != 1) {
+      throw new TemplateModelException("Wrong arguments");
+    }
+
+    try {
+      return JsonUtils.toScriptString(DeepUnwrap.unwrap((TemplateModel) arguments.get(0)));
+    } catch (JsonProcessingException e) {
+      throw new TemplateModelException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import freemarker.template.Configuration;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.Version;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 공용 변수로 등록하는 {@link TemplateMethodModelEx} 를 {@link MeteredTemplateMethodModel} 로 감싸는 설정.
+ * setSharedVariable 로 등록하는 모든 경로 (Spring 의 freemarkerVariables 포함) 에 적용된다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class MeteredConfiguration extends Configuration {
+  private final MeterRegistry registry;
+  private final boolean allocation;
+
+  public MeteredConfiguration(Version incompatibleImprovements, MeterRegistry registry) {
+    this(incompatibleImprovements, registry, false);
+  }
+
+  /**
+   * @param incompatibleImprovements FreeMarker 버전
+   * @param registry meter registry
+   * @param allocation 템플릿 메서드가 할당한 메모리를 기록할지 여부
+   */
+  public MeteredConfiguration(Version incompatibleImprovements, MeterRegistry registry, boolean allocation) {
+    super(incompatibleImprovements);
+    this.registry = registry;
+    this.allocation = allocation;
+  }
+
+  @Override
+  public void setSharedVariable(String name, TemplateModel model) {
+    super.setSharedVariable(name, wrap(name, model));
+  }
+
+  @Override
+  public void setSharedVaribles(Map map) throws TemplateModelException {
+    Map<Object, Object> wrapped = new LinkedHashMap<>();
+    for (Object entry : map.entrySet()) {
+      Map.Entry variable = (Map.Entry) entry;
+      Object value = variable.getValue();
+      wrapped.put(variable.getKey(), value instanceof TemplateModel ? wrap((String) variable.getKey(), (TemplateModel) value) : value);
+    }
+    super.setSharedVaribles(wrapped);
+  }
+
+  private TemplateModel wrap(String name, TemplateModel model) {
+    if (model instanceof TemplateMethodModelEx && !(model instanceof MeteredTemplateMethodModel)) {
+      return new MeteredTemplateMethodModel(name, (TemplateMethodModelEx) model, registry, allocation);
+    }
+    return model;
+  }
+}
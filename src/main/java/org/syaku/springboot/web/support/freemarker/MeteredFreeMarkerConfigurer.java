@@ -0,0 +1,36 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
+
+import freemarker.template.Configuration;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link MeteredConfiguration} 을 만드는 FreeMarkerConfigurer.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see FreeMarkerMetricsAutoConfiguration
+ */
+public class MeteredFreeMarkerConfigurer extends FreeMarkerConfigurer {
+  private final MeterRegistry registry;
+  private final boolean allocation;
+
+  public MeteredFreeMarkerConfigurer(MeterRegistry registry) {
+    this(registry, false);
+  }
+
+  /**
+   * @param registry meter registry
+   * @param allocation 템플릿 메서드가 할당한 메모리를 기록할지 여부
+   */
+  public MeteredFreeMarkerConfigurer(MeterRegistry registry, boolean allocation) {
+    this.registry = registry;
+    this.allocation = allocation;
+  }
+
+  @Override
+  protected Configuration newConfiguration() {
+    return new MeteredConfiguration(Configuration.getVersion(), registry, allocation);
+  }
+}
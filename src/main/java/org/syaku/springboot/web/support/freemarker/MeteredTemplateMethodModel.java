@@ -0,0 +1,170 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import freemarker.core.Environment;
+import freemarker.template.Template;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 공용 변수로 등록한 템플릿 메서드의 호출 횟수, 실행 시간, 할당한 메모리를 기록한다.
+ *
+ * freemarker.method.calls 실행 시간 (histogram 포함)
+ * freemarker.method.allocation 호출 한번에 할당한 바이트. allocation 을 사용하고 JVM 이 스레드별 할당량을 지원하는 경우만 기록한다.
+ *
+ * 태그
+ * method: 공용 변수 이름 (parameterUtils)
+ * mode: {@link ParameterUtilsTemplateModel}, {@link StringUtilsTemplateModel} 의 mode 인자 (merge, pick, mergeRange, abbreviate ...). 그외 none
+ * template: 메서드를 호출한 뷰 템플릿 이름. 뷰별 합계로 느린 화면을 찾는다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see MeteredConfiguration
+ */
+public class MeteredTemplateMethodModel implements TemplateMethodModelEx {
+  static final String CALLS = "freemarker.method.calls";
+  static final String ALLOCATION = "freemarker.method.allocation";
+  private static final String NONE = "none";
+
+  private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+  private final String name;
+  private final TemplateMethodModelEx delegate;
+  private final MeterRegistry registry;
+  private final int modeIndex;
+  private final boolean allocation;
+  private final ConcurrentMap<String, ConcurrentMap<String, Meters>> meters = new ConcurrentHashMap<>();
+
+  /**
+   * @param name 공용 변수 이름
+   * @param delegate 템플릿 메서드
+   * @param registry meter registry
+   */
+  public MeteredTemplateMethodModel(String name, TemplateMethodModelEx delegate, MeterRegistry registry) {
+    this(name, delegate, registry, false);
+  }
+
+  /**
+   * @param name 공용 변수 이름
+   * @param delegate 템플릿 메서드
+   * @param registry meter registry
+   * @param allocation 할당한 메모리를 기록할지 여부
+   */
+  public MeteredTemplateMethodModel(String name, TemplateMethodModelEx delegate, MeterRegistry registry,
+    boolean allocation) {
+    this.name = name;
+    this.delegate = delegate;
+    this.registry = registry;
+    this.modeIndex = modeIndex(delegate);
+    this.allocation = allocation && THREADS != null;
+  }
+
+  public TemplateMethodModelEx getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public Object exec(List arguments) throws TemplateModelException {
+    long allocated = allocation ? allocatedBytes() : -1;
+    long start = System.nanoTime();
+    try {
+      return delegate.exec(arguments);
+    } finally {
+      long time = System.nanoTime() - start;
+      Meters meters = meters(template(), mode(arguments));
+      meters.timer.record(time, TimeUnit.NANOSECONDS);
+      if (allocated >= 0) {
+        meters.allocation.record(allocatedBytes() - allocated);
+      }
+    }
+  }
+
+  private Meters meters(String template, String mode) {
+    // 이미 있는 meter 는 잠그지 않고 찾는다. (Java 8 의 computeIfAbsent 는 값이 있어도 잠글 수 있다.)
+    ConcurrentMap<String, Meters> modes = meters.get(template);
+    if (modes == null) {
+      modes = meters.computeIfAbsent(template, key -> new ConcurrentHashMap<>());
+    }
+    Meters found = modes.get(mode);
+    if (found == null) {
+      found = modes.computeIfAbsent(mode, key -> new Meters(Tags.of("method", name, "mode", mode, "template", template)));
+    }
+    return found;
+  }
+
+  private String mode(List arguments) throws TemplateModelException {
+    if (modeIndex < 0 || arguments.size() <= modeIndex || !(arguments.get(modeIndex) instanceof TemplateScalarModel)) {
+      return NONE;
+    }
+    return ((TemplateScalarModel) arguments.get(modeIndex)).getAsString();
+  }
+
+  private static String template() {
+    Environment environment = Environment.getCurrentEnvironment();
+    Template template = environment == null ? null : environment.getMainTemplate();
+    return template == null || template.getName() == null ? NONE : template.getName();
+  }
+
+  /**
+   * mode 를 인자로 받는 템플릿 메서드만 mode 태그를 기록한다. 그외 메서드의 인자는 태그 값이 끝없이 늘어날 수 있다.
+   */
+  private static int modeIndex(TemplateMethodModelEx delegate) {
+    if (delegate instanceof ParameterUtilsTemplateModel) {
+      return 1;
+    } else if (delegate instanceof StringUtilsTemplateModel) {
+      return 0;
+    }
+    return -1;
+  }
+
+  private static com.sun.management.ThreadMXBean threads() {
+    try {
+      java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      if (threads instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+        if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+          return sunThreads;
+        }
+      }
+    } catch (LinkageError e) {
+      // com.sun.management 를 제공하지 않는 JVM
+    }
+    return null;
+  }
+
+  private static long allocatedBytes() {
+    return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private final class Meters {
+    private final Timer timer;
+    private final DistributionSummary allocation;
+
+    private Meters(Tags tags) {
+      this.timer = Timer.builder(CALLS)
+        .description("FreeMarker template method calls")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(registry);
+      this.allocation = MeteredTemplateMethodModel.this.allocation ? allocation(tags) : null;
+    }
+
+    private DistributionSummary allocation(Tags tags) {
+      return DistributionSummary.builder(ALLOCATION)
+        .description("Estimated bytes allocated by a FreeMarker template method call")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry);
+    }
+  }
+}
@@ -1,15 +1,26 @@
 package org.syaku.springboot.web.support.freemarker;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.syaku.springboot.web.support.QueryParameterFilter;
 import org.syaku.springboot.web.utils.ParameterUtils;
+import org.syaku.springboot.web.utils.QueryLimits;
+import org.syaku.springboot.web.utils.QueryTemplate;
+import org.syaku.springboot.web.utils.UrlCodec;
 
 import freemarker.ext.servlet.HttpRequestHashModel;
 import freemarker.template.SimpleScalar;
 import freemarker.template.TemplateMethodModelEx;
 import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.TemplateSequenceModel;
 
 /**
  * FreeMarker Methods 용 ParameterUtils 클래스
@@ -20,6 +31,25 @@ import freemarker.template.TemplateModelException;
  * ${parameterUtils(Request, "merge", "mode=save")} return "page=1&search=choi&mode=save"
  * ${parameterUtils(Request, "pick", "page=&mode=save")} return "page=1&mode=save"
  *
+ * mergeRange 는 name 파라메터의 값만 바꾼 merge 결과 목록을 반환한다. 바뀌지 않는 파라메터는 한번만 문자열로 만든다.
+ * 네번째 인자는 파라메터 이름이고, 다섯번째, 여섯번째 인자로 범위 (from, to) 혹은 다섯번째 인자로 값 목록을 전달한다.
+ *
+ * <#list parameterUtils(Request, "mergeRange", "?", "page", 1, pageCount) as link><a href="${link}">${link?counter}</a></#list>
+ * <#assign sorts = parameterUtils(Request, "mergeRange", "?", "sort", ["name", "date"])>
+ * 요청에서 계산한 값 (pageCount 등) 이 커도 링크를 끝없이 만들지 않도록 결과 개수가 maxRangeSize 를 넘으면 예외를 던진다.
+ *
+ * 템플릿에 사용된 문자열 파라메터 구문은 {@link QueryTemplate} 으로 분석하여 캐시한다.
+ * 캐시는 cacheSize 만큼만 저장하며 가득 차면 가장 오래 사용하지 않은 구문을 버린다 (LRU).
+ *
+ * 요청 파라메터 맵은 요청마다 한번만 읽어 {@link #CACHE_ATTRIBUTE} 요청 속성에 저장하고,
+ * ({@link QueryParameterFilter} 를 사용하면 필터가 분석한 맵을 복사 없이 사용한다.)
+ * 요청 파라메터 맵에는 {@link QueryLimits#getDefault()} 를 적용하므로 제한을 넘는 파라메터와
+ * allowlist 에 없는 이름은 merge, mergeRange 결과에 복사되지 않는다.
+ * 같은 요청에서 같은 (mode, 구문) 으로 호출하면 저장해둔 결과를 반환한다.
+ *
+ * 파라메터는 {@link UrlCodec} 으로 디코딩, 인코딩하며 코덱을 지정하지 않으면 {@link UrlCodec#getDefault()} 를 사용한다.
+ * 기본 코덱이 바뀌면 캐시한 구문을 다시 분석한다.
+ *
  * @author Seok Kyun. Choi. 최석균 (Syaku)
  * @since 2018. 7. 2.
  * @see ParameterUtils
@@ -27,10 +57,63 @@ import freemarker.template.TemplateModelException;
 public class ParameterUtilsTemplateModel implements TemplateMethodModelEx {
   private static final String MERGE = "merge";
   private static final String PICK = "pick";
+  private static final String MERGE_RANGE = "mergeRange";
+  private static final int DEFAULT_CACHE_SIZE = 256;
+  private static final int DEFAULT_MAX_RANGE_SIZE = 1000;
+
+  /**
+   * 요청별 파라메터 맵과 merge, pick, mergeRange 결과를 저장하는 요청 속성 이름
+   */
+  public static final String CACHE_ATTRIBUTE = ParameterUtilsTemplateModel.class.getName() + ".CACHE";
+
+  private final int cacheSize;
+  private final UrlCodec codec;
+  private final int maxRangeSize;
+  private final Map<String, QueryTemplate> templates;
+
+  public ParameterUtilsTemplateModel() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * @param cacheSize 분석한 문자열 파라메터 구문을 캐시할 최대 개수
+   */
+  public ParameterUtilsTemplateModel(int cacheSize) {
+    this(cacheSize, null);
+  }
+
+  /**
+   * @param cacheSize 분석한 문자열 파라메터 구문을 캐시할 최대 개수
+   * @param codec 파라메터 인코딩, 디코딩에 사용할 코덱. null 인 경우 {@link UrlCodec#getDefault()}
+   */
+  public ParameterUtilsTemplateModel(int cacheSize, UrlCodec codec) {
+    this(cacheSize, codec, DEFAULT_MAX_RANGE_SIZE);
+  }
+
+  /**
+   * @param cacheSize 분석한 문자열 파라메터 구문을 캐시할 최대 개수
+   * @param codec 파라메터 인코딩, 디코딩에 사용할 코덱. null 인 경우 {@link UrlCodec#getDefault()}
+   * @param maxRangeSize mergeRange 가 만드는 최대 개수. {@link QueryTemplate#MAX_RANGE_SIZE} 보다 클 수 없다.
+   */
+  public ParameterUtilsTemplateModel(int cacheSize, UrlCodec codec, int maxRangeSize) {
+    if (maxRangeSize < 1 || maxRangeSize > QueryTemplate.MAX_RANGE_SIZE) {
+      throw new IllegalArgumentException("maxRangeSize must be between 1 and " + QueryTemplate.MAX_RANGE_SIZE);
+    }
+
+    this.cacheSize = cacheSize;
+    this.codec = codec;
+    this.maxRangeSize = maxRangeSize;
+    this.templates = new LinkedHashMap<String, QueryTemplate>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, QueryTemplate> eldest) {
+        return size() > ParameterUtilsTemplateModel.this.cacheSize;
+      }
+    };
+  }
 
   @Override
   public Object exec(List arguments) throws TemplateModelException {
-    if (arguments.size() != 3) {
+    if (arguments.size() < 3) {
       throw new TemplateModelException("Wrong arguments");
     }
 
@@ -43,12 +126,149 @@ public class ParameterUtilsTemplateModel implements TemplateMethodModelEx {
     String mode = ((SimpleScalar) arguments.get(1)).getAsString();
     String params = ((SimpleScalar) arguments.get(2)).getAsString();
 
-    if (MERGE.equals(mode)) {
-      return ParameterUtils.merge(request.getParameterMap(), params);
-    } else if (PICK.equals(mode)) {
-      return ParameterUtils.pick(request.getParameterMap(), params);
+    if (!MERGE.equals(mode) && !PICK.equals(mode) && !MERGE_RANGE.equals(mode)) {
+      throw new IllegalArgumentException("args[1] is not a string merge, pick or mergeRange");
+    }
+
+    RequestCache cache = (RequestCache) request.getAttribute(CACHE_ATTRIBUTE);
+    if (cache == null) {
+      cache = new RequestCache(parameters(request));
+      request.setAttribute(CACHE_ATTRIBUTE, cache);
+    }
+
+    if (MERGE_RANGE.equals(mode)) {
+      return mergeRange(cache, params, arguments);
+    }
+
+    if (arguments.size() != 3) {
+      throw new TemplateModelException("Wrong arguments");
+    }
+
+    String key = mode + ':' + params;
+    String result = cache.results.get(key);
+    if (result == null) {
+      QueryTemplate template = compile(params);
+      result = MERGE.equals(mode) ? template.merge(cache.parameters) : template.pick(cache.parameters);
+      cache.results.put(key, result);
+    }
+    return result;
+  }
+
+  private List<String> mergeRange(RequestCache cache, String params, List arguments) throws TemplateModelException {
+    if (arguments.size() != 5 && arguments.size() != 6) {
+      throw new TemplateModelException("Wrong arguments");
+    }
+
+    String name = string(arguments.get(3), 3);
+    int from = 0;
+    int to = 0;
+    List<String> values = null;
+    StringBuilder key = new StringBuilder(params.length() + name.length() + 32)
+      .append(params).append('\u0000').append(name);
+    if (arguments.size() == 6) {
+      from = number(arguments.get(4), 4);
+      to = number(arguments.get(5), 5);
+      checkRangeSize((long) to - from + 1);
+      key.append('\u0000').append(from).append('\u0000').append(to);
     } else {
-      throw new IllegalArgumentException("args[1] is not a string merge or pick");
+      values = strings(arguments.get(4), 4);
+      for (String value : values) {
+        key.append('\u0000').append(value);
+      }
+    }
+
+    List<String> result = cache.ranges.get(key.toString());
+    if (result == null) {
+      QueryTemplate template = compile(params);
+      result = values == null
+        ? template.mergeAll(cache.parameters, name, from, to)
+        : template.mergeAll(cache.parameters, name, values, false);
+      cache.ranges.put(key.toString(), result);
+    }
+    return result;
+  }
+
+  private void checkRangeSize(long size) throws TemplateModelException {
+    if (size > maxRangeSize) {
+      throw new TemplateModelException("mergeRange size " + size + " exceeds maxRangeSize " + maxRangeSize);
+    }
+  }
+
+  private static String string(Object model, int index) throws TemplateModelException {
+    if (!(model instanceof TemplateScalarModel)) {
+      throw new IllegalArgumentException("args[" + index + "] is not of type string");
+    }
+    return ((TemplateScalarModel) model).getAsString();
+  }
+
+  private static int number(Object model, int index) throws TemplateModelException {
+    if (!(model instanceof TemplateNumberModel)) {
+      throw new IllegalArgumentException("args[" + index + "] is not of type number");
+    }
+    return ((TemplateNumberModel) model).getAsNumber().intValue();
+  }
+
+  private List<String> strings(Object model, int index) throws TemplateModelException {
+    if (!(model instanceof TemplateSequenceModel)) {
+      throw new IllegalArgumentException("args[" + index + "] is not a number or a list of strings");
+    }
+
+    TemplateSequenceModel sequence = (TemplateSequenceModel) model;
+    int size = sequence.size();
+    checkRangeSize(size);
+    List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(string(sequence.get(i), index));
+    }
+    return values;
+  }
+
+  /**
+   * 필터가 분석한 맵은 이미 제한을 적용했으므로 그대로 사용한다.
+   */
+  static Map<String, String[]> parameters(HttpServletRequest request) {
+    Map<String, String[]> parameters = QueryParameterFilter.getParameters(request);
+    if (request.getAttribute(QueryParameterFilter.PARAMETERS_ATTRIBUTE) != null) {
+      return parameters;
+    }
+    return ParameterUtils.limit(parameters, QueryLimits.getDefault());
+  }
+
+  private QueryTemplate compile(String query) {
+    UrlCodec codec = this.codec == null ? UrlCodec.getDefault() : this.codec;
+    QueryTemplate template;
+    synchronized (templates) {
+      template = templates.get(query);
+    }
+    if (template != null && template.getCodec() == codec) {
+      return template;
+    }
+
+    template = ParameterUtils.compile(query, codec);
+    if (cacheSize > 0) {
+      synchronized (templates) {
+        templates.put(query, template);
+      }
+    }
+    return template;
+  }
+
+  QueryTemplate cached(String query) {
+    synchronized (templates) {
+      return templates.get(query);
+    }
+  }
+
+  /**
+   * 요청 하나에서만 사용하므로 동기화하지 않는다.
+   */
+  private static final class RequestCache {
+    private final Map<String, String[]> parameters;
+    private final Map<String, String> results = new HashMap<>();
+    private final Map<String, List<String>> ranges = new HashMap<>();
+
+    private RequestCache(Map<String, String[]> parameters) {
+      this.parameters = parameters;
     }
   }
 }
@@ -0,0 +1,82 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link AsyncRenderingReturnValueHandler} 가 템플릿을 렌더링할 실행기를 만든다.
+ * JVM 이 가상 스레드를 지원하면 (Java 21 이상) 작업마다 가상 스레드를 만드는 실행기를 사용하고
+ * 그렇지 않으면 크기가 정해진 스레드 풀을 사용한다.
+ *
+ * 소스는 Java 8 로 컴파일하므로 가상 스레드 실행기는 리플렉션으로 만든다.
+ * 스레드 풀의 대기열이 가득 차면 작업을 거부하고 (RejectedExecutionException)
+ * {@link AsyncRenderingReturnValueHandler} 는 비동기 없이 요청 스레드에서 렌더링한다. 요청을 버리지 않고 요청 스레드가 느려진다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@Slf4j
+public final class RenderingExecutors {
+  private static final Method VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutorMethod();
+
+  private RenderingExecutors() {
+  }
+
+  /**
+   * @return JVM 이 가상 스레드를 지원하면 true
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_EXECUTOR != null;
+  }
+
+  /**
+   * @param virtualThreads 가상 스레드를 지원하면 사용할지 여부
+   * @param poolSize 가상 스레드를 사용하지 않을 때의 스레드 수
+   * @param queueCapacity 가상 스레드를 사용하지 않을 때의 대기열 크기
+   * @return 렌더링 실행기
+   */
+  public static ExecutorService newExecutor(boolean virtualThreads, int poolSize, int queueCapacity) {
+    if (virtualThreads && isVirtualThreadSupported()) {
+      try {
+        return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+      } catch (ReflectiveOperationException e) {
+        log.warn("Virtual thread executor is not available, fall back to thread pool", e);
+      }
+    }
+    return newThreadPool(poolSize, queueCapacity);
+  }
+
+  static ExecutorService newThreadPool(int poolSize, int queueCapacity) {
+    if (poolSize < 1 || queueCapacity < 1) {
+      throw new IllegalArgumentException("poolSize and queueCapacity must be greater than 0");
+    }
+
+    AtomicInteger count = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "freemarker-render-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+      threadFactory, (runnable, executor) -> {
+        throw new RejectedExecutionException(executor.isShutdown()
+          ? "Rendering executor has been shut down" : "Rendering executor queue is full");
+      });
+  }
+
+  private static Method virtualThreadExecutorMethod() {
+    try {
+      return java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
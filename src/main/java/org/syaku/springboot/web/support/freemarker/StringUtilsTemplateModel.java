@@ -0,0 +1,141 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.syaku.springboot.web.utils.StringUtils;
+import org.syaku.springboot.web.utils.TextAbbreviator;
+
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateModelIterator;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.TemplateSequenceModel;
+
+/**
+ * FreeMarker Methods 용 StringUtils 클래스
+ *
+ * some.ftl
+ * ${stringUtils("abbreviate", subject, 20, "...")}
+ * ${stringUtils("abbreviateBytes", subject, 200, "...")}
+ *
+ * 두번째 인자로 목록을 전달하면 한번의 호출로 목록 전체를 자르고 목록을 반환한다.
+ * 다섯번째 인자로 속성 이름을 전달하면 목록 항목의 속성 값을 자른다.
+ *
+ * <#assign subjects = stringUtils("abbreviate", posts, 20, "...", "subject")>
+ * <#list posts as post>${subjects[post?index]}</#list>
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see StringUtils
+ * @see TextAbbreviator
+ */
+public class StringUtilsTemplateModel implements TemplateMethodModelEx {
+  private static final String ABBREVIATE = "abbreviate";
+  private static final String ABBREVIATE_GRAPHEMES = "abbreviateGraphemes";
+  private static final String ABBREVIATE_BYTES = "abbreviateBytes";
+
+  private final TextAbbreviator abbreviator;
+
+  public StringUtilsTemplateModel() {
+    this(null);
+  }
+
+  /**
+   * @param abbreviator 문자열을 자를 때 사용할 객체. null 인 경우 {@link StringUtils#getAbbreviator()}
+   */
+  public StringUtilsTemplateModel(TextAbbreviator abbreviator) {
+    this.abbreviator = abbreviator;
+  }
+
+  @Override
+  public Object exec(List arguments) throws TemplateModelException {
+    if (arguments.size() != 4 && arguments.size() != 5) {
+      throw new TemplateModelException("Wrong arguments");
+    }
+
+    TextAbbreviator.Mode mode = mode(string(arguments.get(0), 0));
+    Object target = arguments.get(1);
+    int limit = number(arguments.get(2), 2);
+    String ending = string(arguments.get(3), 3);
+    String property = arguments.size() == 5 ? string(arguments.get(4), 4) : null;
+    TextAbbreviator abbreviator = this.abbreviator == null ? StringUtils.getAbbreviator() : this.abbreviator;
+
+    if (target instanceof TemplateSequenceModel || target instanceof TemplateCollectionModel) {
+      return abbreviator.abbreviateAll(texts((TemplateModel) target, property), mode, limit, ending);
+    }
+
+    String text = text((TemplateModel) target, property);
+    switch (mode) {
+      case GRAPHEMES:
+        return abbreviator.abbreviateGraphemes(text, limit, ending);
+      case BYTES:
+        return abbreviator.abbreviateBytes(text, limit, ending);
+      default:
+        return abbreviator.abbreviate(text, limit, ending);
+    }
+  }
+
+  private static TextAbbreviator.Mode mode(String mode) {
+    if (ABBREVIATE.equals(mode)) {
+      return TextAbbreviator.Mode.CODE_POINTS;
+    } else if (ABBREVIATE_GRAPHEMES.equals(mode)) {
+      return TextAbbreviator.Mode.GRAPHEMES;
+    } else if (ABBREVIATE_BYTES.equals(mode)) {
+      return TextAbbreviator.Mode.BYTES;
+    }
+    throw new IllegalArgumentException("args[0] is not a string abbreviate, abbreviateGraphemes or abbreviateBytes");
+  }
+
+  private static List<String> texts(TemplateModel target, String property) throws TemplateModelException {
+    List<String> texts;
+    if (target instanceof TemplateSequenceModel) {
+      TemplateSequenceModel sequence = (TemplateSequenceModel) target;
+      int size = sequence.size();
+      texts = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        texts.add(text(sequence.get(i), property));
+      }
+    } else {
+      texts = new ArrayList<>();
+      TemplateModelIterator iterator = ((TemplateCollectionModel) target).iterator();
+      while (iterator.hasNext()) {
+        texts.add(text(iterator.next(), property));
+      }
+    }
+    return texts;
+  }
+
+  private static String text(TemplateModel model, String property) throws TemplateModelException {
+    if (property != null && model instanceof TemplateHashModel) {
+      model = ((TemplateHashModel) model).get(property);
+    }
+
+    if (model == null) {
+      return null;
+    }
+
+    if (!(model instanceof TemplateScalarModel)) {
+      throw new IllegalArgumentException("args[1] is not a string or a list of strings");
+    }
+    return ((TemplateScalarModel) model).getAsString();
+  }
+
+  private static String string(Object model, int index) throws TemplateModelException {
+    if (!(model instanceof TemplateScalarModel)) {
+      throw new IllegalArgumentException("args[" + index + "] is not of type string");
+    }
+    return ((TemplateScalarModel) model).getAsString();
+  }
+
+  private static int number(Object model, int index) throws TemplateModelException {
+    if (!(model instanceof TemplateNumberModel)) {
+      throw new IllegalArgumentException("args[" + index + "] is not of type number");
+    }
+    return ((TemplateNumberModel) model).getAsNumber().intValue();
+  }
+}
@@ -0,0 +1,46 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import java.util.List;
+
+import org.syaku.springboot.web.utils.UnitConverter;
+
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateNumberModel;
+import freemarker.template.TemplateScalarModel;
+
+/**
+ * FreeMarker Methods 용 UnitConverter 클래스
+ *
+ * some.ftl
+ * ${unitConverter(file.size)} return "1.5 KB" (단위 자동 선택)
+ * ${unitConverter(file.size, "MB")} return "0 MB"
+ *
+ * 상태가 없으므로 하나의 객체를 공용 변수로 등록하여 여러 스레드에서 사용한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see UnitConverter
+ */
+public class UnitConverterTemplateModel implements TemplateMethodModelEx {
+  @Override
+  public Object exec(List arguments) throws TemplateModelException {
+    if (arguments.size() != 1 && arguments.size() != 2) {
+      throw new TemplateModelException("Wrong arguments");
+    }
+
+    if (!(arguments.get(0) instanceof TemplateNumberModel)) {
+      throw new IllegalArgumentException("args[0] is not of type number");
+    }
+    long byteSize = ((TemplateNumberModel) arguments.get(0)).getAsNumber().longValue();
+
+    UnitConverter.DataUnit unit = null;
+    if (arguments.size() == 2) {
+      if (!(arguments.get(1) instanceof TemplateScalarModel)) {
+        throw new IllegalArgumentException("args[1] is not of type string");
+      }
+      unit = UnitConverter.DataUnit.valueOf(((TemplateScalarModel) arguments.get(1)).getAsString());
+    }
+    return UnitConverter.byteToUnit(byteSize, unit);
+  }
+}
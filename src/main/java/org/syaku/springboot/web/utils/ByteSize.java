@@ -0,0 +1,57 @@
+package org.syaku.springboot.web.utils;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * 바이트 크기. 업로드 제한, 용량 제한 등의 설정 값으로 사용한다.
+ *
+ * application.properties
+ * upload.max-size=10MB
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see UnitConverter#unitToByte(CharSequence)
+ */
+@EqualsAndHashCode
+public final class ByteSize implements Comparable<ByteSize> {
+  private final long bytes;
+
+  private ByteSize(long bytes) {
+    this.bytes = bytes;
+  }
+
+  public static ByteSize ofBytes(long bytes) {
+    return new ByteSize(bytes);
+  }
+
+  public static ByteSize of(long size, UnitConverter.DataUnit unit) {
+    return new ByteSize(Math.multiplyExact(size, unit.getSize()));
+  }
+
+  /**
+   * @param text 10MB, 1.5 GB, 10 KiB, 512
+   * @return byte size
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   * @see UnitConverter#unitToByte(CharSequence)
+   */
+  public static ByteSize parse(CharSequence text) {
+    return new ByteSize(UnitConverter.unitToByte(text));
+  }
+
+  public long toBytes() {
+    return bytes;
+  }
+
+  @Override
+  public int compareTo(ByteSize other) {
+    return Long.compare(bytes, other.bytes);
+  }
+
+  /**
+   * @return {@link UnitConverter#byteToUnit(long)}
+   */
+  @Override
+  public String toString() {
+    return UnitConverter.byteToUnit(bytes);
+  }
+}
@@ -1,31 +1,558 @@
 package org.syaku.springboot.web.utils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 /**
+ * JSON 변환
+ *
+ * 큰 목록은 문자열을 거치지 않고 스트림으로 읽고 쓴다.
+ * write 는 {@link OutputStream}, {@link Writer} 에 바로 쓰고,
+ * stream, iterator 는 최상위 JSON 배열의 항목을 {@link JsonParser} 로 하나씩 읽는다.
+ * 전달한 스트림은 닫지 않는다. 스트림을 연 쪽에서 닫는다.
+ *
+ * toObject, toList, toMap 에 타입을 전달하면 Map, List 트리를 거치지 않고 타입으로 바로 읽는다.
+ * 타입별 {@link ObjectReader}, {@link ObjectWriter} 는 처음 사용할 때 만들어 재사용한다.
+ *
+ * Post post = JsonUtils.toObject(json, Post.class);
+ * List<Post> posts = JsonUtils.toList(json, Post.class);
+ * Map<String, Post> postMap = JsonUtils.toMap(json, Post.class);
+ *
+ * try (Stream<Post> posts = JsonUtils.stream(inputStream, Post.class)) {
+ *   posts.forEach(...);
+ * }
+ *
+ * try (Stream<Post> posts = postRepository.streamAll()) {
+ *   JsonUtils.writeAll(posts.iterator(), outputStream, 1000);
+ * }
+ *
+ * 세션, 캐시처럼 서비스 내부에서만 읽는 값은 바이너리 JSON ({@link Format#SMILE}) 으로 저장하면 크기와 변환 비용이 줄어든다.
+ * 같은 ObjectMapper 설정을 사용하며, byte[] 를 읽을 때는 앞부분을 보고 JSON 과 Smile 을 구분한다.
+ *
+ * byte[] data = JsonUtils.toBytes(post, JsonUtils.Format.SMILE);
+ * Post post = JsonUtils.toObject(data, Post.class);
+ *
  * @author Seok Kyun. Choi. 최석균 (Syaku)
  * @since 2018. 7. 3.
  */
 public final class JsonUtils {
-  private static final ObjectMapper mapper = new ObjectMapper();
+  private static volatile Mappers mappers = new Mappers(new ObjectMapper());
+
+  /**
+   * 직렬화 형식
+   */
+  public enum Format {
+    /** 텍스트 JSON (UTF-8) */
+    JSON,
+    /** 바이너리 JSON. 헤더를 쓰므로 읽을 때 형식을 구분할 수 있다. */
+    SMILE
+  }
+
   private JsonUtils() {
   }
 
+  /**
+   * 변환에 사용할 ObjectMapper 를 설정한다. 스프링 부트에서는 {@link org.syaku.springboot.web.support.WebUtilsAutoConfiguration}
+   * 이 컨텍스트의 ObjectMapper 를 설정하므로 모듈 (JavaTimeModule 등) 과 기능 설정이 그대로 적용된다.
+   * 설정하면 타입별로 캐시한 ObjectReader, ObjectWriter 를 모두 새로 만든다.
+   * @param mapper object mapper. null 인 경우 기본 ObjectMapper 를 사용한다.
+   */
+  public static void setObjectMapper(ObjectMapper mapper) {
+    mappers = new Mappers(mapper == null ? new ObjectMapper() : mapper);
+  }
+
+  public static ObjectMapper getObjectMapper() {
+    return mappers.mapper;
+  }
+
+  /**
+   * 타입별 ObjectReader, ObjectWriter 와 직렬화 객체를 미리 만든다.
+   * 애플리케이션 시작 시 호출하면 첫 요청이 타입 분석 비용을 부담하지 않는다.
+   * @param types DTO 타입
+   */
+  public static void warmup(Iterable<Class<?>> types) {
+    Mappers mappers = JsonUtils.mappers;
+    for (Class<?> type : types) {
+      mappers.reader(Format.JSON, type);
+      mappers.listReader(type);
+      mappers.writer(Format.JSON, type);
+    }
+  }
+
+  private static ObjectReader reader(Class<?> type) {
+    return mappers.reader(Format.JSON, type);
+  }
+
+  private static ObjectWriter writer(Object json) {
+    return writer(json, Format.JSON);
+  }
+
+  private static ObjectWriter writer(Object json, Format format) {
+    Mappers mappers = JsonUtils.mappers;
+    return json == null ? mappers.defaultWriter(format) : mappers.writer(format, json.getClass());
+  }
+
   public static String toString(Object json) throws JsonProcessingException {
-    return mapper.writeValueAsString(json);
+    return writer(json).writeValueAsString(json);
+  }
+
+  /**
+   * HTML 문서에 넣을 수 있는 JSON 문자열을 만든다. 문자열 값의 <, >, &, ' 와 U+2028, U+2029 를 \\uXXXX 로 쓰므로
+   * {@code <script>} 안이나 HTML 속성에 넣어도 </script> 등으로 문서를 벗어나지 않는다. JSON 으로 읽은 값은 같다.
+   * @param json 객체
+   * @return HTML 문서용 JSON 문자열
+   * @throws JsonProcessingException 변환 오류
+   */
+  public static String toScriptString(Object json) throws JsonProcessingException {
+    Mappers mappers = JsonUtils.mappers;
+    return (json == null ? mappers.defaultScriptWriter : mappers.scriptWriter(json.getClass())).writeValueAsString(json);
+  }
+
+  /**
+   * 문자열을 만들지 않고 out 에 UTF-8 로 쓴다.
+   * @param json 객체
+   * @param out 출력 대상. 닫지 않는다.
+   * @throws IOException 쓰기 오류
+   */
+  public static void write(Object json, OutputStream out) throws IOException {
+    writer(json).writeValue(out, json);
+  }
+
+  /**
+   * @param json 객체
+   * @param format 형식
+   * @return 형식으로 직렬화한 바이트
+   * @throws JsonProcessingException 변환 오류
+   */
+  public static byte[] toBytes(Object json, Format format) throws JsonProcessingException {
+    return writer(json, format).writeValueAsBytes(json);
+  }
+
+  /**
+   * @param json 객체
+   * @param out 출력 대상. 닫지 않는다.
+   * @param format 형식
+   * @throws IOException 쓰기 오류
+   */
+  public static void write(Object json, OutputStream out, Format format) throws IOException {
+    writer(json, format).writeValue(out, json);
+  }
+
+  /**
+   * 문자열을 만들지 않고 writer 에 쓴다.
+   * @param json 객체
+   * @param writer 출력 대상. 닫지 않는다.
+   * @throws IOException 쓰기 오류
+   */
+  public static void write(Object json, Writer writer) throws IOException {
+    writer(json).writeValue(writer, json);
+  }
+
+  /**
+   * 항목을 하나씩 JSON 배열로 out 에 쓴다. 목록 전체를 메모리에 올리지 않는다.
+   * 항목마다 flush 하지 않고 첫 항목 다음과 flushInterval 개 마다 flush 하여
+   * 응답의 첫 바이트는 바로 보내고 작은 쓰기가 반복되지 않도록 한다.
+   * @param values 항목 iterator
+   * @param out 출력 대상. 닫지 않는다.
+   * @param flushInterval flush 할 항목 간격. 1 이상
+   * @return 쓴 항목 수
+   * @throws IOException 쓰기 오류
+   */
+  public static long writeAll(Iterator<?> values, OutputStream out, int flushInterval) throws IOException {
+    if (flushInterval < 1) {
+      throw new IllegalArgumentException("flushInterval must be greater than 0");
+    }
+
+    long count = 0;
+    try (SequenceWriter writer = mappers.sequenceWriter.writeValuesAsArray(out)) {
+      while (values.hasNext()) {
+        writer.write(values.next());
+        if (++count % flushInterval == 0 || count == 1) {
+          writer.flush();
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @param json JSON
+   * @param type 타입
+   * @param <T> 타입
+   * @return 객체
+   * @throws IOException 형식 오류
+   */
+  public static <T> T toObject(String json, Class<T> type) throws IOException {
+    return reader(type).readValue(json);
+  }
+
+  public static <T> T toObject(InputStream json, Class<T> type) throws IOException {
+    return reader(type).readValue(json);
+  }
+
+  public static <T> T toObject(Reader json, Class<T> type) throws IOException {
+    return reader(type).readValue(json);
+  }
+
+  /**
+   * 앞부분을 보고 JSON 과 Smile 을 구분하여 읽는다.
+   * @param data {@link Format#JSON} 혹은 {@link Format#SMILE} 로 직렬화한 바이트
+   * @param type 타입
+   * @param <T> 타입
+   * @return 객체
+   * @throws IOException 형식을 알 수 없거나 형식 오류
+   */
+  public static <T> T toObject(byte[] data, Class<T> type) throws IOException {
+    return mappers.detectingReader(type).readValue(data);
+  }
+
+  /**
+   * @param json 입력. 닫지 않는다.
+   * @param type 타입
+   * @param format 형식
+   * @param <T> 타입
+   * @return 객체
+   * @throws IOException 형식 오류
+   */
+  public static <T> T toObject(InputStream json, Class<T> type, Format format) throws IOException {
+    return mappers.reader(format, type).readValue(json);
   }
 
   public static <K,T> Map<K, T> toMap(String json) throws IOException {
-    return mapper.readValue(json, new TypeReference<Map<K, T>>() {});
+    return mappers.treeMapReader.readValue(json);
+  }
+
+  public static <K,T> Map<K, T> toMap(InputStream json) throws IOException {
+    return mappers.treeMapReader.readValue(json);
+  }
+
+  public static <K,T> Map<K, T> toMap(Reader json) throws IOException {
+    return mappers.treeMapReader.readValue(json);
+  }
+
+  /**
+   * JSON 객체의 값을 type 으로 읽는다.
+   * @param json JSON 객체
+   * @param type 값 타입
+   * @param <V> 값 타입
+   * @return 키 순서를 유지하는 map
+   * @throws IOException 형식 오류
+   */
+  public static <V> Map<String, V> toMap(String json, Class<V> type) throws IOException {
+    return mappers.mapReader(type).readValue(json);
+  }
+
+  public static <V> Map<String, V> toMap(InputStream json, Class<V> type) throws IOException {
+    return mappers.mapReader(type).readValue(json);
+  }
+
+  public static <V> Map<String, V> toMap(Reader json, Class<V> type) throws IOException {
+    return mappers.mapReader(type).readValue(json);
+  }
+
+  public static <T> List<T> toList(String json) throws IOException {
+    return mappers.treeListReader.readValue(json);
   }
 
-  public <T> List<T> toList(String json) throws IOException {
-    return mapper.readValue(json, new TypeReference<List<T>>() {});
+  public static <T> List<T> toList(InputStream json) throws IOException {
+    return mappers.treeListReader.readValue(json);
+  }
+
+  public static <T> List<T> toList(Reader json) throws IOException {
+    return mappers.treeListReader.readValue(json);
+  }
+
+  /**
+   * JSON 배열의 항목을 type 으로 읽는다.
+   * @param json JSON 배열
+   * @param type 항목 타입
+   * @param <T> 항목 타입
+   * @return 목록
+   * @throws IOException 형식 오류
+   */
+  public static <T> List<T> toList(String json, Class<T> type) throws IOException {
+    return mappers.listReader(type).readValue(json);
+  }
+
+  public static <T> List<T> toList(InputStream json, Class<T> type) throws IOException {
+    return mappers.listReader(type).readValue(json);
+  }
+
+  public static <T> List<T> toList(Reader json, Class<T> type) throws IOException {
+    return mappers.listReader(type).readValue(json);
+  }
+
+  /**
+   * 최상위 JSON 배열의 항목을 하나씩 읽는다. 목록 전체를 메모리에 올리지 않는다.
+   * @param json 최상위가 배열인 JSON. 닫지 않는다.
+   * @param type 항목 타입
+   * @param <T> 항목 타입
+   * @return 항목 iterator. 다 읽거나 close 하면 parser 를 닫는다.
+   * @throws IOException 최상위가 배열이 아니거나 읽기 오류
+   */
+  public static <T> ArrayIterator<T> iterator(InputStream json, Class<T> type) throws IOException {
+    Mappers mappers = JsonUtils.mappers;
+    return new ArrayIterator<>(mappers.createParser(json), mappers.reader(Format.JSON, type));
+  }
+
+  /**
+   * @param json 최상위가 배열인 JSON. 닫지 않는다.
+   * @param type 항목 타입
+   * @param <T> 항목 타입
+   * @return 항목 iterator. 다 읽거나 close 하면 parser 를 닫는다.
+   * @throws IOException 최상위가 배열이 아니거나 읽기 오류
+   * @see #iterator(InputStream, Class)
+   */
+  public static <T> ArrayIterator<T> iterator(Reader json, Class<T> type) throws IOException {
+    Mappers mappers = JsonUtils.mappers;
+    return new ArrayIterator<>(mappers.createParser(json), mappers.reader(Format.JSON, type));
+  }
+
+  /**
+   * 최상위 JSON 배열의 항목을 하나씩 읽는 순차 스트림. 읽기 오류는 {@link UncheckedIOException} 으로 전달한다.
+   * @param json 최상위가 배열인 JSON. 닫지 않는다.
+   * @param type 항목 타입
+   * @param <T> 항목 타입
+   * @return 항목 스트림. close 하면 parser 를 닫는다.
+   * @throws IOException 최상위가 배열이 아니거나 읽기 오류
+   */
+  public static <T> Stream<T> stream(InputStream json, Class<T> type) throws IOException {
+    return stream(iterator(json, type));
+  }
+
+  /**
+   * @param json 최상위가 배열인 JSON. 닫지 않는다.
+   * @param type 항목 타입
+   * @param <T> 항목 타입
+   * @return 항목 스트림. close 하면 parser 를 닫는다.
+   * @throws IOException 최상위가 배열이 아니거나 읽기 오류
+   * @see #stream(InputStream, Class)
+   */
+  public static <T> Stream<T> stream(Reader json, Class<T> type) throws IOException {
+    return stream(iterator(json, type));
+  }
+
+  private static <T> Stream<T> stream(ArrayIterator<T> iterator) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+      .onClose(iterator::closeUnchecked);
+  }
+
+  /**
+   * HTML 에서 의미가 있는 문자와 자바스크립트 문자열에 쓸 수 없는 줄 구분자 (U+2028, U+2029) 를 \\uXXXX 로 쓴다.
+   */
+  private static final class HtmlCharacterEscapes extends CharacterEscapes {
+    private static final long serialVersionUID = 1L;
+
+    private static final HtmlCharacterEscapes INSTANCE = new HtmlCharacterEscapes();
+    private static final SerializableString LINE_SEPARATOR = new SerializedString("\\u2028");
+    private static final SerializableString PARAGRAPH_SEPARATOR = new SerializedString("\\u2029");
+
+    private final int[] escapes;
+
+    private HtmlCharacterEscapes() {
+      escapes = standardAsciiEscapesForJSON();
+      escapes['<'] = ESCAPE_STANDARD;
+      escapes['>'] = ESCAPE_STANDARD;
+      escapes['&'] = ESCAPE_STANDARD;
+      escapes['\''] = ESCAPE_STANDARD;
+    }
+
+    @Override
+    public int[] getEscapeCodesForAscii() {
+      return escapes;
+    }
+
+    @Override
+    public SerializableString getEscapeSequence(int ch) {
+      if (ch == 0x2028) {
+        return LINE_SEPARATOR;
+      } else if (ch == 0x2029) {
+        return PARAGRAPH_SEPARATOR;
+      }
+      return null;
+    }
+  }
+
+  /**
+   * ObjectMapper 하나로 만든 ObjectReader, ObjectWriter 캐시.
+   * ObjectMapper 를 바꾸면 캐시를 통째로 교체한다.
+   * 전달받은 스트림을 닫지 않도록 ObjectMapper 설정을 바꾸지 않고 ObjectReader, ObjectWriter 에서 끈다.
+   */
+  private static final class Mappers {
+    private final ObjectMapper mapper;
+    private final ObjectReader treeMapReader;
+    private final ObjectReader treeListReader;
+    private final ObjectWriter sequenceWriter;
+    private final ObjectWriter defaultScriptWriter;
+    private final Map<Format, JsonFactory> factories = new EnumMap<>(Format.class);
+    private final Map<Format, ObjectWriter> defaultWriters = new EnumMap<>(Format.class);
+    private final Map<Format, ConcurrentMap<Class<?>, ObjectReader>> readers = new EnumMap<>(Format.class);
+    private final Map<Format, ConcurrentMap<Class<?>, ObjectWriter>> writers = new EnumMap<>(Format.class);
+    private final ConcurrentMap<Class<?>, ObjectWriter> scriptWriters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectReader> mapReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectReader> detectingReaders = new ConcurrentHashMap<>();
+
+    private Mappers(ObjectMapper mapper) {
+      this.mapper = mapper;
+      this.treeMapReader = reader(mapper.readerFor(new TypeReference<Map<Object, Object>>() {}));
+      this.treeListReader = reader(mapper.readerFor(new TypeReference<List<Object>>() {}));
+
+      for (Format format : Format.values()) {
+        factories.put(format, format == Format.SMILE ? new SmileFactory() : mapper.getFactory());
+        defaultWriters.put(format, writer(mapper.writer(), format));
+        readers.put(format, new ConcurrentHashMap<>());
+        writers.put(format, new ConcurrentHashMap<>());
+      }
+      // writeAll 이 flush 간격을 정한다.
+      this.sequenceWriter = writer(mapper.writer(), Format.JSON).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+      this.defaultScriptWriter = defaultWriter(Format.JSON).with(HtmlCharacterEscapes.INSTANCE);
+    }
+
+    private ObjectReader reader(ObjectReader reader) {
+      return reader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    private ObjectWriter writer(ObjectWriter writer, Format format) {
+      return writer.with(factories.get(format)).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private JsonParser createParser(InputStream json) throws IOException {
+      return mapper.getFactory().createParser(json).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    private JsonParser createParser(Reader json) throws IOException {
+      return mapper.getFactory().createParser(json).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    private ObjectReader reader(Format format, Class<?> type) {
+      return readers.get(format).computeIfAbsent(type, key -> reader(mapper.readerFor(key).with(factories.get(format))));
+    }
+
+    private ObjectWriter defaultWriter(Format format) {
+      return defaultWriters.get(format);
+    }
+
+    private ObjectWriter writer(Format format, Class<?> type) {
+      return writers.get(format).computeIfAbsent(type, key -> writer(mapper.writerFor(key), format));
+    }
+
+    private ObjectWriter scriptWriter(Class<?> type) {
+      return scriptWriters.computeIfAbsent(type, key -> writer(Format.JSON, key).with(HtmlCharacterEscapes.INSTANCE));
+    }
+
+    private ObjectReader listReader(Class<?> type) {
+      return listReaders.computeIfAbsent(type,
+        key -> reader(mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, key))));
+    }
+
+    private ObjectReader mapReader(Class<?> type) {
+      return mapReaders.computeIfAbsent(type,
+        key -> reader(mapper.readerFor(mapper.getTypeFactory().constructMapType(Map.class, String.class, key))));
+    }
+
+    private ObjectReader detectingReader(Class<?> type) {
+      return detectingReaders.computeIfAbsent(type,
+        key -> reader(Format.JSON, key).withFormatDetection(reader(Format.SMILE, key), reader(Format.JSON, key)));
+    }
+  }
+
+  /**
+   * 최상위 JSON 배열의 항목을 하나씩 읽는 iterator.
+   * 읽기 오류는 {@link UncheckedIOException} 으로 전달한다.
+   * @param <T> 항목 타입
+   */
+  public static final class ArrayIterator<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private JsonToken token;
+
+    private ArrayIterator(JsonParser parser, ObjectReader reader) throws IOException {
+      this.parser = parser;
+      this.reader = reader;
+
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        parser.close();
+        throw JsonMappingException.from(parser, "Root value is not an array");
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (token == null) {
+        try {
+          token = parser.isClosed() ? JsonToken.END_ARRAY : parser.nextToken();
+          if (token == JsonToken.END_ARRAY || token == null) {
+            token = JsonToken.END_ARRAY;
+            parser.close();
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return token != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      try {
+        T value = reader.readValue(parser);
+        token = null;
+        return value;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      token = JsonToken.END_ARRAY;
+      parser.close();
+    }
+
+    private void closeUnchecked() {
+      try {
+        close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
   }
 }
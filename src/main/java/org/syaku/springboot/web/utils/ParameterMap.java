@@ -0,0 +1,610 @@
+package org.syaku.springboot.web.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 파라메터 맵에 사용하는 작은 크기의 순서를 유지하는 맵.
+ * {@link java.util.LinkedHashMap} 과 달리 엔트리 객체와 연결 리스트 없이 이름과 값을 나란한 배열에 저장한다.
+ * 파라메터가 {@link #HASH_THRESHOLD} 개 이하이면 배열을 순서대로 비교하고, 넘으면 선형 탐사 해시 테이블을 만든다.
+ *
+ * {@link #overlay(Map, Map)} 는 원래 맵을 복사하지 않고 덮어쓸 파라메터만 가진 맵을 반환한다.
+ * 조회와 순회는 원래 맵과 덮어쓸 파라메터를 함께 보며, 수정하는 경우에만 원래 맵을 복사한다 (copy-on-write).
+ * 순서는 원래 맵의 순서 다음에 새로 추가된 이름의 순서이다.
+ *
+ * ParameterMap.overlay({page=[1], search=[choi]}, {page=[2], mode=[save]}) return {page=[2], search=[choi], mode=[save]}
+ *
+ * 동기화하지 않는다. overlay 로 만든 맵은 원래 맵이 바뀌지 않는 동안 사용한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see QueryStringParser
+ * @see ParameterUtils#parse(String, UrlCodec)
+ */
+public final class ParameterMap extends AbstractMap<String, String[]> {
+  /**
+   * 이 개수를 넘으면 해시 테이블을 만든다.
+   */
+  static final int HASH_THRESHOLD = 8;
+
+  private static final int DEFAULT_CAPACITY = 4;
+
+  private String[] keys;
+  private String[][] values;
+  private int size;
+  // 값은 배열 위치 + 1, 0 은 빈 슬롯
+  private int[] table;
+  private int modCount;
+  private boolean readOnly;
+
+  // overlay 인 경우 원래 맵. 복사한 후에는 null
+  private Map<String, String[]> base;
+  // 배열의 이름이 원래 맵에 있는지 여부
+  private boolean[] shadowing;
+  // 원래 맵에 없는 이름의 수
+  private int added;
+
+  private Set<Map.Entry<String, String[]>> entrySet;
+
+  public ParameterMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param capacity 처음 저장할 수 있는 파라메터 수
+   */
+  public ParameterMap(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    }
+    keys = new String[capacity];
+    values = new String[capacity][];
+  }
+
+  /**
+   * @param map 복사할 파라메터 맵
+   */
+  public ParameterMap(Map<String, String[]> map) {
+    this(map.size());
+    putAll(map);
+  }
+
+  /**
+   * 원래 맵을 복사하지 않고 덮어쓸 파라메터만 가진 맵을 반환한다. overrides 의 크기 만큼만 복사한다.
+   * 반환한 맵을 수정하면 그때 원래 맵을 복사하므로 원래 맵은 바뀌지 않는다.
+   * @param base 원래 맵. null 인 경우 빈 맵
+   * @param overrides 덮어쓸 파라메터 맵. null 인 경우 빈 맵
+   * @return base + overrides
+   */
+  public static ParameterMap overlay(Map<String, String[]> base, Map<String, String[]> overrides) {
+    ParameterMap result;
+    if (overrides instanceof ParameterMap && ((ParameterMap) overrides).base == null) {
+      // 같은 구현이면 해시를 다시 계산하지 않고 배열만 복사한다.
+      ParameterMap source = (ParameterMap) overrides;
+      result = new ParameterMap(0);
+      result.keys = Arrays.copyOf(source.keys, source.size);
+      result.values = Arrays.copyOf(source.values, source.size);
+      result.size = source.size;
+      result.table = source.table == null ? null : source.table.clone();
+    } else {
+      result = new ParameterMap(overrides == null ? 0 : overrides.size());
+      if (overrides != null) {
+        for (Cursor cursor = cursor(overrides); cursor.next(); ) {
+          result.put(cursor.key(), cursor.value());
+        }
+      }
+    }
+
+    if (base != null && !base.isEmpty()) {
+      boolean[] shadowing = new boolean[result.size];
+      int added = 0;
+      for (int i = 0; i < result.size; i++) {
+        if (base.containsKey(result.keys[i])) {
+          shadowing[i] = true;
+        } else {
+          added++;
+        }
+      }
+      result.base = base;
+      result.shadowing = shadowing;
+      result.added = added;
+    }
+    return result;
+  }
+
+  /**
+   * 수정할 수 없는 맵으로 만든다. 파서가 만든 맵을 그대로 공개할 때 사용한다.
+   * @return this
+   */
+  ParameterMap readOnly() {
+    readOnly = true;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return base == null ? size : base.size() + added;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0 || (base != null && base.containsKey(key));
+  }
+
+  @Override
+  public String[] get(Object key) {
+    int index = indexOf(key);
+    if (index >= 0) {
+      return values[index];
+    }
+    return base == null ? null : base.get(key);
+  }
+
+  @Override
+  public String[] put(String key, String[] value) {
+    checkWritable();
+    materialize();
+
+    int index = indexOf(key);
+    if (index >= 0) {
+      String[] old = values[index];
+      values[index] = value;
+      return old;
+    }
+
+    append(key, value);
+    return null;
+  }
+
+  @Override
+  public String[] remove(Object key) {
+    checkWritable();
+    materialize();
+
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    String[] old = values[index];
+    removeAt(index);
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    checkWritable();
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    table = null;
+    base = null;
+    shadowing = null;
+    added = 0;
+    modCount++;
+  }
+
+  @Override
+  public Set<Map.Entry<String, String[]>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  /**
+   * 같은 이름이 있으면 위치를, 없으면 -1 을 반환한다. overlay 인 경우 원래 맵은 찾지 않는다.
+   */
+  int indexOf(Object key) {
+    if (table == null) {
+      for (int i = 0; i < size; i++) {
+        if (Objects.equals(keys[i], key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    int mask = table.length - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      int index = table[slot] - 1;
+      if (index < 0) {
+        return -1;
+      }
+      if (Objects.equals(keys[index], key)) {
+        return index;
+      }
+    }
+  }
+
+  String[] valueAt(int index) {
+    return values[index];
+  }
+
+  /**
+   * 파서가 같은 이름을 두번 찾지 않도록 위치로 값을 바꾼다.
+   */
+  void setValueAt(int index, String[] value) {
+    checkWritable();
+    values[index] = value;
+  }
+
+  /**
+   * 이름이 없는 것을 확인한 후 호출한다.
+   */
+  void append(String key, String[] value) {
+    checkWritable();
+    materialize();
+
+    if (size == keys.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    modCount++;
+
+    if (table != null && size * 2 <= table.length) {
+      insert(size - 1);
+    } else if (size > HASH_THRESHOLD) {
+      rehash();
+    }
+  }
+
+  private void removeAt(int index) {
+    int moved = size - index - 1;
+    if (moved > 0) {
+      System.arraycopy(keys, index + 1, keys, index, moved);
+      System.arraycopy(values, index + 1, values, index, moved);
+    }
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    modCount++;
+
+    // 지운 뒤의 위치가 모두 바뀌므로 다시 만든다. 파라메터 맵에서 삭제는 드물다.
+    if (size > HASH_THRESHOLD) {
+      rehash();
+    } else {
+      table = null;
+    }
+  }
+
+  /**
+   * overlay 인 경우 원래 맵을 복사하여 일반 맵으로 만든다. 순서는 순회 순서와 같다.
+   */
+  private void materialize() {
+    if (base == null) {
+      return;
+    }
+
+    Map<String, String[]> base = this.base;
+    int capacity = base.size() + added;
+    String[] keys = new String[capacity];
+    String[][] values = new String[capacity][];
+    int count = 0;
+
+    for (Cursor cursor = cursor(base); cursor.next(); ) {
+      int index = indexOf(cursor.key());
+      keys[count] = cursor.key();
+      values[count] = index >= 0 ? this.values[index] : cursor.value();
+      count++;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!shadowing[i]) {
+        keys[count] = this.keys[i];
+        values[count] = this.values[i];
+        count++;
+      }
+    }
+
+    this.keys = keys;
+    this.values = values;
+    this.size = count;
+    this.base = null;
+    this.shadowing = null;
+    this.added = 0;
+    this.modCount++;
+
+    if (size > HASH_THRESHOLD) {
+      rehash();
+    } else {
+      table = null;
+    }
+  }
+
+  private void rehash() {
+    table = new int[Integer.highestOneBit(size * 2) << 1];
+    for (int i = 0; i < size; i++) {
+      insert(i);
+    }
+  }
+
+  private void insert(int index) {
+    int mask = table.length - 1;
+    int slot = hash(keys[index]) & mask;
+    while (table[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = index + 1;
+  }
+
+  private static int hash(Object key) {
+    int hash = key == null ? 0 : key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Parameter map is read only");
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, String[]>> {
+    @Override
+    public Iterator<Map.Entry<String, String[]>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return ParameterMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ParameterMap.this.clear();
+    }
+  }
+
+  /**
+   * 엔트리 객체를 만들지 않고 순회하는 커서. 파라메터 문자열을 만들 때처럼 내부에서 순회할 때 사용한다.
+   *
+   * for (ParameterMap.Cursor cursor = ParameterMap.cursor(map); cursor.next(); ) {
+   *   cursor.key(); cursor.value();
+   * }
+   */
+  abstract static class Cursor {
+    /**
+     * @return 다음 파라메터로 이동했으면 true
+     */
+    abstract boolean next();
+
+    abstract String key();
+
+    abstract String[] value();
+
+    /**
+     * @return 현재 파라메터의 배열 위치. 원래 맵의 파라메터인 경우 -1
+     */
+    int position() {
+      return -1;
+    }
+  }
+
+  /**
+   * @param map 파라메터 맵. {@link ParameterMap} 이 아닌 경우 entrySet 을 순회한다.
+   * @return cursor
+   */
+  static Cursor cursor(Map<String, String[]> map) {
+    return map instanceof ParameterMap ? ((ParameterMap) map).cursor() : new EntryCursor(map.entrySet().iterator());
+  }
+
+  Cursor cursor() {
+    return base == null ? new ArrayCursor(-1) : new OverlayCursor();
+  }
+
+  private final class ArrayCursor extends Cursor {
+    private int index;
+
+    private ArrayCursor(int index) {
+      this.index = index;
+    }
+
+    @Override
+    boolean next() {
+      return ++index < size;
+    }
+
+    @Override
+    String key() {
+      return keys[index];
+    }
+
+    @Override
+    String[] value() {
+      return values[index];
+    }
+
+    @Override
+    int position() {
+      return index;
+    }
+  }
+
+  /**
+   * 원래 맵을 순회하며 덮어쓴 값을 돌려주고, 그 다음 원래 맵에 없는 이름을 순회한다.
+   */
+  private final class OverlayCursor extends Cursor {
+    private Cursor base = cursor(ParameterMap.this.base);
+    private int index = -1;
+    private int position;
+
+    @Override
+    boolean next() {
+      if (base != null) {
+        if (base.next()) {
+          position = indexOf(base.key());
+          return true;
+        }
+        base = null;
+      }
+
+      do {
+        index++;
+      } while (index < size && shadowing[index]);
+      position = index;
+      return index < size;
+    }
+
+    @Override
+    String key() {
+      return base == null ? keys[index] : base.key();
+    }
+
+    @Override
+    String[] value() {
+      return position >= 0 ? values[position] : base.value();
+    }
+
+    @Override
+    int position() {
+      return position;
+    }
+  }
+
+  private static final class EntryCursor extends Cursor {
+    private final Iterator<Map.Entry<String, String[]>> iterator;
+    private Map.Entry<String, String[]> entry;
+
+    private EntryCursor(Iterator<Map.Entry<String, String[]>> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean next() {
+      if (iterator.hasNext()) {
+        entry = iterator.next();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    String key() {
+      return entry.getKey();
+    }
+
+    @Override
+    String[] value() {
+      return entry.getValue();
+    }
+  }
+
+  /**
+   * 커서로 순회한다. 순회 중 삭제하면 그 위치까지 순회한 상태로 원래 맵을 복사하고 배열을 이어서 순회한다.
+   */
+  private final class EntryIterator implements Iterator<Map.Entry<String, String[]>> {
+    private Cursor cursor = cursor();
+    private boolean ready;
+    private boolean hasNext;
+    private int returned;
+    private boolean removable;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      if (!ready) {
+        hasNext = cursor.next();
+        ready = true;
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Map.Entry<String, String[]> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      ready = false;
+      removable = true;
+      returned++;
+      int position = cursor.position();
+      // 원래 맵의 엔트리는 setValue 로 원래 맵을 바꿀 수 있으므로 그대로 돌려주지 않는다.
+      return position >= 0 ? new Entry(position) : new SimpleImmutableEntry<>(cursor.key(), cursor.value());
+    }
+
+    @Override
+    public void remove() {
+      if (!removable) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      checkWritable();
+
+      // 복사한 배열의 순서는 순회 순서와 같으므로 마지막으로 돌려준 파라메터는 returned - 1 에 있다.
+      materialize();
+      removeAt(--returned);
+      cursor = new ArrayCursor(returned - 1);
+      ready = false;
+      removable = false;
+      expectedModCount = modCount;
+    }
+  }
+
+  private final class Entry implements Map.Entry<String, String[]> {
+    private final int index;
+
+    private Entry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return keys[index];
+    }
+
+    @Override
+    public String[] getValue() {
+      return values[index];
+    }
+
+    @Override
+    public String[] setValue(String[] value) {
+      checkWritable();
+      String[] old = values[index];
+      values[index] = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+      return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + Arrays.toString(getValue());
+    }
+  }
+}
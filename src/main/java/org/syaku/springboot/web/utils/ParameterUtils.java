@@ -1,7 +1,7 @@
 package org.syaku.springboot.web.utils;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 import lombok.extern.slf4j.Slf4j;
@@ -13,66 +13,32 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public final class ParameterUtils {
-  private static String charset = "UTF-8";
-
   /**
-   * {@link URLDecoder} 에 사용될 언어셋을 설정할 수 있다.
+   * 파라메터 인코딩, 디코딩에 사용될 언어셋을 설정할 수 있다. {@link StringUtils#setCharset(String)} 와 같다.
    * @param charset String default UTF-8
+   * @deprecated 스프링 부트 syaku.web.charset 속성 혹은 {@link UrlCodec#setDefault(UrlCodec)} 를 사용한다.
    */
+  @Deprecated
   public static void setCharset(String charset) {
-    if (charset == null || charset.length() == 0) {
-      ParameterUtils.charset = charset;
-    }
-  }
-
-  private static String decode(String value) throws UnsupportedEncodingException {
-    return URLDecoder.decode(value, ParameterUtils.charset);
-  }
-
-  private static List<String> add(List<String> values, String value) {
-    if (value != null && value.length() > 0) {
-      values.add(value);
-    }
-    return values;
+    StringUtils.setCharset(charset);
   }
 
   /**
-   * 문자열 파라메터를 맵 형식으로 만들어 반환한다. 순서를 유지하기 위해 {@link LinkedHashMap} 을 사용했다.
+   * 문자열 파라메터를 맵 형식으로 만들어 반환한다. 순서를 유지하기 위해 {@link ParameterMap} 을 사용했다.
    * @param params string parameter type
    * @return parameter map
+   * @see QueryStringParser
    */
   static Map<String, String[]> stringToMap(String params) {
+    return stringToMap(params, UrlCodec.getDefault());
+  }
+
+  private static Map<String, String[]> stringToMap(String params, UrlCodec codec) {
     if (params == null || params.length() == 0) {
       return Collections.emptyMap();
     }
-    Map<String, List<String>> store = new LinkedHashMap<>();
-    String[] pairs = params.split("&");
-
-    try {
-      for (String pair : pairs) {
-        int idx = pair.indexOf("=");
-        String name = decode(pair.substring(0, idx));
-        String value = decode(pair.substring(idx + 1));
 
-        List<String> values = new LinkedList<>();
-
-        if (store.containsKey(name)) {
-          values = store.get(name);
-        }
-
-        store.put(name, add(values, value));
-      }
-    } catch (UnsupportedEncodingException e) {
-      log.error(e.getMessage());
-    }
-
-    Map<String, String[]> result = new LinkedHashMap<>();
-
-    for (Map.Entry<String, List<String>> values: store.entrySet()) {
-      result.put(values.getKey(), values.getValue().toArray(new String[values.getValue().size()]));
-    }
-
-    return result;
+    return QueryStringParser.parse(params, codec);
   }
 
   /**
@@ -90,47 +56,93 @@ public final class ParameterUtils {
    * @return parameter string
    */
   public static String mapToString(Map<String, String[]> target, boolean allowEmpty) {
+    return QueryStringWriter.write("", target, allowEmpty);
+  }
+
+  /**
+   * 같은 파라메터를 가진 맵은 순서와 상관없이 같은 문자열이 되도록 만든다. 캐시 키로 사용한다.
+   * 이름은 정렬하고 빈값은 버리며 한 이름의 값 순서는 유지한다.
+   *
+   * {search=[choi], page=[1], mode=[]} return "page=1&search=choi"
+   *
+   * @param target 대상이될 파라메터 맵
+   * @return canonical parameter string
+   */
+  public static String canonical(Map<String, String[]> target) {
+    return canonical(target, null);
+  }
+
+  /**
+   * names 에 있는 이름만으로 {@link #canonical(Map)} 을 만든다.
+   * @param target 대상이될 파라메터 맵
+   * @param names 사용할 파라메터 이름. null 이거나 비어있으면 모든 이름을 사용한다.
+   * @return canonical parameter string
+   */
+  public static String canonical(Map<String, String[]> target, Collection<String> names) {
     if (target == null || target.isEmpty()) {
       return "";
     }
 
-    StringBuilder result = new StringBuilder();
-    for (Map.Entry<String, String[]> map : target.entrySet()) {
-      String[] values = map.getValue();
-      if (!allowEmpty && (values == null || values.length == 0)) {
-        continue;
+    String[] keys = new String[target.size()];
+    int size = 0;
+    boolean all = names == null || names.isEmpty();
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+      if (all || names.contains(cursor.key())) {
+        keys[size++] = cursor.key();
       }
+    }
+    Arrays.sort(keys, 0, size);
 
-      if (values == null || values.length == 0) {
-        result.append(map.getKey()).append("=&");
-        continue;
+    UrlCodec codec = UrlCodec.getDefault();
+    StringBuilder result = new StringBuilder(size * 16);
+    try {
+      boolean first = true;
+      for (int i = 0; i < size; i++) {
+        first = QueryStringWriter.append(result, codec, first, "", keys[i], nonEmpty(target.get(keys[i])), false);
       }
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+    return result.toString();
+  }
+
+  /**
+   * 빈값이 없으면 복사하지 않는다.
+   */
+  private static String[] nonEmpty(String[] values) {
+    if (values == null) {
+      return null;
+    }
 
-      for (String value : values) {
-        result.append(map.getKey()).append("=").append(value).append("&");
+    int count = 0;
+    for (String value : values) {
+      if (value != null && value.length() > 0) {
+        count++;
       }
     }
+    if (count == values.length) {
+      return values;
+    }
 
-    return result.toString().replaceAll("&$", "");
+    String[] result = new String[count];
+    count = 0;
+    for (String value : values) {
+      if (value != null && value.length() > 0) {
+        result[count++] = value;
+      }
+    }
+    return result;
   }
 
   /**
-   * 두개의 맵을 병합한다.
+   * 두개의 맵을 병합한다. target 을 복사하지 않고 value 파라메터만 덮어쓴다.
    * @param target 원래 맵
    * @param value 새로운 맵
    * @return parameter map
    */
   static Map<String, String[]> union(Map<String, String[]> target, String value) {
-    Map<String, String[]> result;
-
-    if (target == null || target.isEmpty()) {
-      result = new LinkedHashMap<>();
-    } else {
-      result = new LinkedHashMap<>(target);
-    }
-    result.putAll(stringToMap(value));
-
-    return result;
+    return ParameterMap.overlay(target, stringToMap(value));
   }
 
   /**
@@ -143,9 +155,9 @@ public final class ParameterUtils {
       return "";
     }
 
-    if (query.indexOf("?") == 0) {
+    if (query.startsWith("?")) {
       return "?";
-    } else if (query.indexOf("&") == 0) {
+    } else if (query.startsWith("&")) {
       return "&";
     } else {
       return "";
@@ -158,7 +170,142 @@ public final class ParameterUtils {
    * @return 파라메터
    */
   private static String initialStringReplace(String query) {
-    return query == null ? null : query.replaceAll("^(\\&|\\?)", "");
+    if (query == null || query.length() == 0) {
+      return query;
+    }
+
+    char initial = query.charAt(0);
+    return initial == '&' || initial == '?' ? query.substring(1) : query;
+  }
+
+  /**
+   * 요청의 문자열 파라메터 (query string) 를 한번 분석하여 수정할 수 없는 맵으로 반환한다.
+   * 순서를 유지하며, 빈값은 값 목록에 추가하지 않는다. 값 배열은 수정하지 않는다.
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터. null 인 경우 빈 맵
+   * @param codec 디코딩에 사용할 코덱
+   * @return parameter map
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  public static Map<String, String[]> parse(String query, UrlCodec codec) {
+    return parse(query, codec, QueryLimits.getDefault());
+  }
+
+  /**
+   * 요청의 문자열 파라메터를 limits 를 적용하여 분석한다. 제한을 넘는 파라메터는 버린다.
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터. null 인 경우 빈 맵
+   * @param codec 디코딩에 사용할 코덱
+   * @param limits 제한
+   * @return parameter map
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   * @see QueryLimits
+   */
+  public static Map<String, String[]> parse(String query, UrlCodec codec, QueryLimits limits) {
+    if (query == null || query.length() == 0) {
+      return Collections.emptyMap();
+    }
+
+    return QueryStringParser.parse(query, codec, limits).readOnly();
+  }
+
+  /**
+   * 이미 분석된 파라메터 맵 ({@link javax.servlet.ServletRequest#getParameterMap()} 등) 에 limits 를 적용한다.
+   * 제한을 넘는 파라메터가 없으면 복사하지 않고 target 을 그대로 반환한다.
+   * merge, pick 의 대상으로 사용하면 allowlist 에 있는 이름만 결과에 남는다.
+   * @param target parameter map
+   * @param limits 제한
+   * @return 제한을 적용한 parameter map
+   * @see QueryLimits
+   */
+  public static Map<String, String[]> limit(Map<String, String[]> target, QueryLimits limits) {
+    if (target == null || target.isEmpty() || limits == null || limits.isUnlimited()) {
+      return target;
+    }
+
+    UrlCodec codec = UrlCodec.getDefault();
+    QueryLimits.Budget budget = limits.budget();
+    ParameterMap result = null;
+    int kept = 0;
+
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+      String name = cursor.key();
+      String[] values = cursor.value();
+      String[] limited = budget.isFull() || !limits.isAllowed(name) || limits.isNameTooLong(name)
+        ? null : limit(codec, name, values, limits, budget);
+
+      if (result == null) {
+        if (limited == values) {
+          kept++;
+          continue;
+        }
+        result = new ParameterMap(target.size());
+        ParameterMap.Cursor copy = ParameterMap.cursor(target);
+        for (int i = 0; i < kept && copy.next(); i++) {
+          result.append(copy.key(), copy.value());
+        }
+      }
+
+      if (limited != null) {
+        result.append(name, limited);
+      }
+      if (budget.isFull()) {
+        break;
+      }
+    }
+
+    return result == null ? target : result.readOnly();
+  }
+
+  /**
+   * 값 하나 마다 한도를 적용한다.
+   * @return 모든 값을 남기면 values, 일부만 남기면 새 배열, 하나도 남기지 않으면 null
+   */
+  private static String[] limit(UrlCodec codec, String name, String[] values, QueryLimits limits,
+    QueryLimits.Budget budget) {
+    int nameLength = budget.hasMaxLength() ? codec.encodedLength(name) + 2 : 0;
+    if (values == null || values.length == 0) {
+      return budget.take(nameLength) ? values : null;
+    }
+
+    String[] result = null;
+    int count = 0;
+    for (int i = 0; i < values.length; i++) {
+      String value = values[i];
+      boolean keep = value != null && !limits.isValueTooLong(value)
+        && budget.take(budget.hasMaxLength() ? nameLength + codec.encodedLength(value) : 0);
+      if (keep && result == null) {
+        count++;
+        continue;
+      }
+      if (result == null) {
+        result = Arrays.copyOf(values, values.length);
+      }
+      if (keep) {
+        result[count++] = value;
+      }
+    }
+
+    if (result == null) {
+      return values;
+    }
+    return count == 0 ? null : Arrays.copyOf(result, count);
+  }
+
+  /**
+   * 문자열 파라메터 구문을 미리 분석하여 반복해서 사용할 수 있는 {@link QueryTemplate} 을 반환한다.
+   * @param query parameter query string
+   * @return query template
+   */
+  public static QueryTemplate compile(String query) {
+    return compile(query, UrlCodec.getDefault());
+  }
+
+  /**
+   * @param query parameter query string
+   * @param codec 구문을 디코딩하고 결과를 인코딩할 코덱
+   * @return query template
+   */
+  public static QueryTemplate compile(String query, UrlCodec codec) {
+    return new QueryTemplate(query, findInitialString(query), codec, stringToMap(initialStringReplace(query), codec));
   }
 
   /**
@@ -186,22 +333,101 @@ public final class ParameterUtils {
    * @return parameter string
    */
   public static String merge(Map<String, String[]> target, String query, boolean allowEmpty) {
-    return finalQueryString(query, mapToString(union(target, initialStringReplace(query)), allowEmpty));
+    return compile(query).merge(target, allowEmpty);
   }
 
-  private static String mapToLog(Map<String, String[]> target) {
-    StringBuilder builder = new StringBuilder();
-    for (Map.Entry<String, String[]> map : target.entrySet()) {
-      if (map.getValue() == null || map.getValue().length == 0) {
-        builder.append(map.getKey()).append("=&");
-      } else {
-        for (String value : map.getValue()) {
-          builder.append(map.getKey()).append("=").append(value).append("&");
-        }
-      }
-    }
+  /**
+   * 대상이 되는 파라메터 맵에 limits 를 적용한 후 merge 한다.
+   * allowlist 가 있으면 대상 파라메터 맵에서 allowlist 에 있는 이름만 결과에 남는다. query 의 파라메터는 모두 남는다.
+   *
+   * (page=1&search=choi&utm=x , mode=save , [page, search]) return "page=1&search=choi&mode=save"
+   * @param target parameter map
+   * @param query parameter query string
+   * @param limits 대상 파라메터 맵에 적용할 제한
+   * @return parameter string
+   * @see #limit(Map, QueryLimits)
+   */
+  public static String merge(Map<String, String[]> target, String query, QueryLimits limits) {
+    return compile(query).merge(limit(target, limits));
+  }
+
+  /**
+   * 분석한 맵 대신 원본 문자열 파라메터 (request.getQueryString() 등) 에 구문을 merge 한다.
+   * 구문에 없는 파라메터는 디코딩하지 않고 원본에서 그대로 복사한다. 결과는 분석한 맵으로 merge 한 것과 같다.
+   *
+   * ("page=1&search=%EC%B5%9C" , page=2) return "page=2&search=%EC%B5%9C"
+   * @param target & 혹은 ? 로 시작하지 않는 원본 문자열 파라메터
+   * @param query parameter query string
+   * @return parameter string
+   * @throws IllegalArgumentException target 의 % 다음에 16진수 두자리가 없는 경우
+   * @see QueryView
+   */
+  public static String mergeQuery(CharSequence target, String query) {
+    return mergeQuery(target, query, false);
+  }
 
-    String result = builder.toString().replaceAll("&$", "");
+  /**
+   * @see #mergeQuery(CharSequence, String)
+   * @param target & 혹은 ? 로 시작하지 않는 원본 문자열 파라메터
+   * @param query parameter query string
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부를 설정한다.
+   * @return parameter string
+   * @throws IllegalArgumentException target 의 % 다음에 16진수 두자리가 없는 경우
+   */
+  public static String mergeQuery(CharSequence target, String query, boolean allowEmpty) {
+    UrlCodec codec = UrlCodec.getDefault();
+    return compile(query, codec).mergeView(QueryView.parse(target, codec), allowEmpty);
+  }
+
+  /**
+   * {@link #merge(Map, String, boolean)} 의 결과를 문자열로 만들지 않고 out 에 직접 쓴다.
+   * @param target parameter map
+   * @param query parameter query string
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부를 설정한다.
+   * @param out 출력 대상 (프리마커 출력 {@link java.io.Writer} 등)
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public static <A extends Appendable> A merge(Map<String, String[]> target, String query, boolean allowEmpty, A out)
+    throws IOException {
+    return compile(query).merge(target, allowEmpty, out);
+  }
+
+  /**
+   * 대상이 되는 파라메터 맵에서 name 파라메터의 값을 from 부터 to 까지 바꾼 문자열 파라메터 목록을 반환한다.
+   * 바뀌지 않는 파라메터는 한번만 문자열로 만든다. 페이지 링크를 만들 때 사용한다.
+   *
+   * (page=1&search=choi , page, 1, 3) return ["page=1&search=choi", "page=2&search=choi", "page=3&search=choi"]
+   * @param target parameter map
+   * @param name 값을 바꿀 파라메터 이름
+   * @param from 시작 값
+   * @param to 마지막 값 (포함)
+   * @return parameter string 목록
+   * @throws IllegalArgumentException 범위가 {@link QueryTemplate#MAX_RANGE_SIZE} 보다 큰 경우
+   * @see QueryTemplate#mergeAll(Map, String, int, int)
+   */
+  public static List<String> mergeAll(Map<String, String[]> target, String name, int from, int to) {
+    return compile("").mergeAll(target, name, from, to);
+  }
+
+  /**
+   * 대상이 되는 파라메터 맵에서 name 파라메터의 값만 바꾼 문자열 파라메터 목록을 values 순서대로 반환한다.
+   * 정렬 링크를 만들 때 사용한다.
+   *
+   * (page=1&sort=name , sort, [name, date]) return ["page=1&sort=name", "page=1&sort=date"]
+   * @param target parameter map
+   * @param name 값을 바꿀 파라메터 이름
+   * @param values name 파라메터의 값 목록
+   * @return parameter string 목록
+   * @see QueryTemplate#mergeAll(Map, String, Iterable, boolean)
+   */
+  public static List<String> mergeAll(Map<String, String[]> target, String name, Iterable<String> values) {
+    return compile("").mergeAll(target, name, values, false);
+  }
+
+  private static String mapToLog(Map<String, String[]> target) {
+    String result = QueryStringWriter.write("", target, true);
 //    log.debug(result);
     return result;
   }
@@ -217,33 +443,31 @@ public final class ParameterUtils {
    * @return parameter string
    */
   public static String pick(Map<String, String[]> target, String query) {
-    String newQuery = initialStringReplace(query);
-
-    Map<String, String[]> result = stringToMap(newQuery);
-
-    if (target == null || target.isEmpty()) {
-      return finalQueryString(query, mapToString(result));
-    }
-
-    for (Map.Entry<String, String[]> map : result.entrySet()) {
-      if (map.getValue() == null || map.getValue().length == 0) {
-        result.put(map.getKey(), target.get(map.getKey()));
-      }
-    }
+    return compile(query).pick(target);
+  }
 
-    return finalQueryString(query, mapToString(result));
+  /**
+   * 대상이 되는 파라메터 맵에 limits 를 적용한 후 pick 한다. allowlist 에 없는 이름은 대상 파라메터 맵에서 가져오지 않는다.
+   * @param target parameter map
+   * @param query parameter query string
+   * @param limits 대상 파라메터 맵에 적용할 제한
+   * @return parameter string
+   * @see #limit(Map, QueryLimits)
+   */
+  public static String pick(Map<String, String[]> target, String query, QueryLimits limits) {
+    return compile(query).pick(limit(target, limits));
   }
 
   /**
-   * 최종 파라메터 쿼리를 완성한다.
-   * @param query 파라메터 쿼리
-   * @param parameter 변형된 파라메터 쿼리
-   * @return 파라메터 쿼리
+   * {@link #pick(Map, String)} 의 결과를 문자열로 만들지 않고 out 에 직접 쓴다.
+   * @param target parameter map
+   * @param query parameter query string
+   * @param out 출력 대상 (프리마커 출력 {@link java.io.Writer} 등)
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
    */
-  private static String finalQueryString(String query, String parameter) {
-    if (parameter == null || Objects.equals("", parameter)) {
-      return "";
-    }
-    return findInitialString(query) + parameter;
+  public static <A extends Appendable> A pick(Map<String, String[]> target, String query, A out) throws IOException {
+    return compile(query).pick(target, out);
   }
 }
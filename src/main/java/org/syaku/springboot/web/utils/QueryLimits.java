@@ -0,0 +1,193 @@
+package org.syaku.springboot.web.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 파라메터를 분석하거나 merge, pick 의 대상으로 사용할 때 적용하는 제한.
+ * 파라메터가 수천개인 요청이 만들어지는 모든 링크에 그대로 복사되지 않도록 한다.
+ *
+ * maxParameters: 파라메터 (이름=값) 최대 개수. 넘는 파라메터는 버린다.
+ * maxNameLength, maxValueLength: 디코딩한 이름, 값의 최대 길이. 넘는 파라메터는 버린다.
+ * maxLength: 남긴 파라메터를 문자열로 만들었을 때의 최대 길이. 넘기 전 까지의 파라메터만 남긴다.
+ * allowedNames: 남길 파라메터 이름 목록 (allowlist). 비어있으면 모든 이름을 남긴다.
+ *
+ * 0 이하의 값은 제한하지 않는다. 제한을 넘어도 예외를 던지지 않고 파라메터를 버린다.
+ * 제한은 {@link QueryStringParser} 가 분석하는 중에 적용하므로 맵을 다시 순회하지 않는다.
+ *
+ * QueryLimits limits = QueryLimits.of(100, 64, 1024, 4096).withAllowedNames(Arrays.asList("page", "search"));
+ * ParameterUtils.parse(request.getQueryString(), codec, limits);
+ * ParameterUtils.merge(ParameterUtils.limit(request.getParameterMap(), limits), "page=2");
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#parse(String, UrlCodec, QueryLimits)
+ * @see ParameterUtils#limit(Map, QueryLimits)
+ */
+public final class QueryLimits {
+  /**
+   * 제한하지 않는다.
+   */
+  public static final QueryLimits NONE = new QueryLimits(0, 0, 0, 0, Collections.emptySet());
+
+  private static volatile QueryLimits defaultLimits = NONE;
+
+  private final int maxParameters;
+  private final int maxNameLength;
+  private final int maxValueLength;
+  private final int maxLength;
+  private final Set<String> allowedNames;
+
+  private QueryLimits(int maxParameters, int maxNameLength, int maxValueLength, int maxLength, Set<String> allowedNames) {
+    this.maxParameters = maxParameters;
+    this.maxNameLength = maxNameLength;
+    this.maxValueLength = maxValueLength;
+    this.maxLength = maxLength;
+    this.allowedNames = allowedNames;
+  }
+
+  /**
+   * @param maxParameters 파라메터 최대 개수
+   * @param maxNameLength 이름 최대 길이
+   * @param maxValueLength 값 최대 길이
+   * @param maxLength 문자열 파라메터 최대 길이
+   * @return query limits. 0 이하의 값은 제한하지 않는다.
+   */
+  public static QueryLimits of(int maxParameters, int maxNameLength, int maxValueLength, int maxLength) {
+    return new QueryLimits(maxParameters, maxNameLength, maxValueLength, maxLength, Collections.emptySet());
+  }
+
+  /**
+   * @param names 남길 파라메터 이름 목록. null 이거나 비어있으면 모든 이름을 남긴다.
+   * @return allowlist 를 적용한 새로운 객체
+   */
+  public QueryLimits withAllowedNames(Collection<String> names) {
+    Set<String> allowed = names == null || names.isEmpty()
+      ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    return new QueryLimits(maxParameters, maxNameLength, maxValueLength, maxLength, allowed);
+  }
+
+  /**
+   * @param names 남길 파라메터 이름 목록
+   * @return allowlist 를 적용한 새로운 객체
+   */
+  public QueryLimits withAllowedNames(String... names) {
+    return withAllowedNames(Arrays.asList(names));
+  }
+
+  /**
+   * @return {@link #setDefault(QueryLimits)} 로 설정한 제한. 기본 값은 {@link #NONE}
+   */
+  public static QueryLimits getDefault() {
+    return defaultLimits;
+  }
+
+  /**
+   * {@link ParameterUtils#parse(String, UrlCodec)} 와 parameterUtils 템플릿 메서드가 사용할 제한을 설정한다.
+   * 스프링 부트에서는 syaku.web.query 속성으로 설정한다.
+   * @param limits query limits. null 인 경우 {@link #NONE}
+   */
+  public static void setDefault(QueryLimits limits) {
+    defaultLimits = limits == null ? NONE : limits;
+  }
+
+  public int getMaxParameters() {
+    return maxParameters;
+  }
+
+  public int getMaxNameLength() {
+    return maxNameLength;
+  }
+
+  public int getMaxValueLength() {
+    return maxValueLength;
+  }
+
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  public Set<String> getAllowedNames() {
+    return allowedNames;
+  }
+
+  /**
+   * @return 제한이 하나도 없으면 true
+   */
+  public boolean isUnlimited() {
+    return maxParameters <= 0 && maxNameLength <= 0 && maxValueLength <= 0 && maxLength <= 0 && allowedNames.isEmpty();
+  }
+
+  boolean isAllowed(String name) {
+    return allowedNames.isEmpty() || allowedNames.contains(name);
+  }
+
+  boolean isNameTooLong(String name) {
+    return maxNameLength > 0 && name.length() > maxNameLength;
+  }
+
+  boolean isValueTooLong(String value) {
+    return maxValueLength > 0 && value.length() > maxValueLength;
+  }
+
+  /**
+   * 인코딩된 길이만 보고 디코딩 전에 버릴 수 있는지 확인한다.
+   * 인코딩된 문자가 없으면 길이가 같고, 있으면 한 문자는 최대 {@link UrlCodec#getMaxEncodedCharLength()} 자
+   * (UTF-8 은 %XX%XX%XX 9 자, GB18030 처럼 4 bytes 언어셋은 12 자) 로 인코딩된다.
+   * @param length 분석 전 구간의 길이
+   * @param encoded 구간에 % 혹은 + 가 있는지 여부
+   * @param max 최대 길이
+   * @param codec 디코딩할 코덱
+   * @return 디코딩하지 않아도 최대 길이를 넘는 것이 확실하면 true
+   */
+  static boolean exceeds(int length, boolean encoded, int max, UrlCodec codec) {
+    return max > 0 && length > (encoded ? (long) max * codec.getMaxEncodedCharLength() : max);
+  }
+
+  /**
+   * 분석 또는 복사 중인 맵의 남은 한도. 한번의 분석에서만 사용한다.
+   */
+  final class Budget {
+    private int parameters;
+    private long length;
+
+    /**
+     * @return 더 이상 파라메터를 남길 수 없으면 true
+     */
+    boolean isFull() {
+      return maxParameters > 0 && parameters >= maxParameters;
+    }
+
+    /**
+     * 파라메터 하나를 남길 수 있으면 한도에서 뺀다.
+     * @param length 문자열로 만들었을 때의 길이 (구분자 포함)
+     * @return 남길 수 없으면 false
+     */
+    boolean take(int length) {
+      if (isFull() || (maxLength > 0 && this.length + length > maxLength)) {
+        return false;
+      }
+      parameters++;
+      this.length += length;
+      return true;
+    }
+
+    boolean hasMaxLength() {
+      return maxLength > 0;
+    }
+  }
+
+  Budget budget() {
+    return new Budget();
+  }
+
+  @Override
+  public String toString() {
+    return "QueryLimits{maxParameters=" + maxParameters + ", maxNameLength=" + maxNameLength
+      + ", maxValueLength=" + maxValueLength + ", maxLength=" + maxLength + ", allowedNames=" + allowedNames + "}";
+  }
+}
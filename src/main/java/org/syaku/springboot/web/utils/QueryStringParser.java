@@ -0,0 +1,146 @@
+package org.syaku.springboot.web.utils;
+
+import java.util.Arrays;
+
+/**
+ * 문자열 파라메터를 한번의 순회로 분석하는 파서.
+ * 정규식, 중간 리스트를 사용하지 않고 & 와 = 의 위치만으로 이름과 값을 나눈다.
+ * % 혹은 + 문자가 포함된 구간만 {@link UrlCodec} 으로 디코딩한다.
+ *
+ * page=1&search=choi&search=choi2 return {page=[1], search=[choi, choi2]}
+ * page=1&search= return {page=[1], search=[]}
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#stringToMap(String)
+ */
+final class QueryStringParser {
+  private static final String[] EMPTY = new String[0];
+
+  private QueryStringParser() {
+  }
+
+  /**
+   * 문자열 파라메터를 맵 형식으로 만들어 반환한다. 순서를 유지하기 위해 {@link ParameterMap} 을 사용했다.
+   * 같은 이름이 여러번 나오면 처음 나온 위치를 유지하고 값을 뒤에 추가한다. 빈값은 값 목록에 추가하지 않는다.
+   * 빈 구간(&&)은 무시하고 = 이 없는 구간은 빈값을 가진 이름으로 처리한다.
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터
+   * @param codec 디코딩에 사용할 코덱
+   * @return parameter map
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  static ParameterMap parse(String query, UrlCodec codec) {
+    return parse(query, codec, null);
+  }
+
+  /**
+   * limits 를 분석하는 중에 적용한다. 제한을 넘는 이름, 값은 디코딩하기 전에 길이로 먼저 거르며,
+   * 파라메터 수나 문자열 길이가 가득 차면 나머지 구간은 읽지 않는다.
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터
+   * @param codec 디코딩에 사용할 코덱
+   * @param limits 제한. null 인 경우 제한하지 않는다.
+   * @return parameter map
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  static ParameterMap parse(String query, UrlCodec codec, QueryLimits limits) {
+    QueryLimits.Budget budget = limits == null || limits.isUnlimited() ? null : limits.budget();
+    ParameterMap result = new ParameterMap();
+    int length = query.length();
+    int start = 0;
+    int separator = -1;
+    boolean nameEncoded = false;
+    boolean valueEncoded = false;
+
+    for (int i = 0; i <= length; i++) {
+      char c = i < length ? query.charAt(i) : '&';
+
+      if (c == '&') {
+        if (i > start && !put(result, query, start, separator, i, nameEncoded, valueEncoded, codec, limits, budget)) {
+          break;
+        }
+        start = i + 1;
+        separator = -1;
+        nameEncoded = false;
+        valueEncoded = false;
+      } else if (c == '=' && separator == -1) {
+        separator = i;
+      } else if (c == '%' || c == '+') {
+        if (separator == -1) {
+          nameEncoded = true;
+        } else {
+          valueEncoded = true;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @return 제한이 가득 차서 더 이상 분석하지 않아야 하면 false
+   */
+  private static boolean put(ParameterMap result, String query, int start, int separator, int end,
+    boolean nameEncoded, boolean valueEncoded, UrlCodec codec, QueryLimits limits, QueryLimits.Budget budget) {
+    int nameEnd = separator == -1 ? end : separator;
+    boolean hasValue = separator != -1 && separator + 1 < end;
+
+    if (budget != null) {
+      if (budget.isFull()) {
+        return false;
+      }
+      if (QueryLimits.exceeds(nameEnd - start, nameEncoded, limits.getMaxNameLength(), codec)
+        || (hasValue && QueryLimits.exceeds(end - separator - 1, valueEncoded, limits.getMaxValueLength(), codec))) {
+        return true;
+      }
+    }
+
+    String name = segment(query, start, nameEnd, nameEncoded, codec);
+    String value = hasValue ? segment(query, separator + 1, end, valueEncoded, codec) : "";
+
+    if (budget != null) {
+      if (!limits.isAllowed(name) || limits.isNameTooLong(name) || limits.isValueTooLong(value)) {
+        return true;
+      }
+    }
+
+    int index = result.indexOf(name);
+    if (budget != null && !budget.take(budget.hasMaxLength() ? length(codec, name, value, index < 0) : 0)) {
+      return false;
+    }
+
+    String[] values = index < 0 ? null : result.valueAt(index);
+    if (value.length() > 0) {
+      if (values == null || values.length == 0) {
+        values = new String[]{ value };
+      } else {
+        values = Arrays.copyOf(values, values.length + 1);
+        values[values.length - 1] = value;
+      }
+    }
+
+    if (index < 0) {
+      result.append(name, values == null ? EMPTY : values);
+    } else {
+      result.setValueAt(index, values);
+    }
+    return true;
+  }
+
+  /**
+   * {@link QueryStringWriter} 가 파라메터 하나를 쓰는 길이. 빈값은 처음 나온 이름만 계산한다 (allowEmpty).
+   */
+  private static int length(UrlCodec codec, String name, String value, boolean first) {
+    if (value.length() == 0) {
+      return first ? codec.encodedLength(name) + 2 : 0;
+    }
+    return codec.encodedLength(name) + codec.encodedLength(value) + 2;
+  }
+
+  private static String segment(String query, int start, int end, boolean encoded, UrlCodec codec) {
+    if (start == end) {
+      return "";
+    }
+
+    return encoded ? codec.decode(query, start, end) : query.substring(start, end);
+  }
+}
@@ -0,0 +1,151 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 파라메터 맵을 문자열 파라메터로 만든다. 이름과 값은 {@link UrlCodec#getDefault()} 로 인코딩한다.
+ * 구분자(&)는 이름과 값 사이에만 추가하므로 마지막 & 를 제거하는 작업이 없다.
+ * 문자열로 반환하는 경우 맵의 내용으로 크기를 미리 계산하여 한번만 할당하고,
+ * {@link Appendable} (프리마커 출력 {@link java.io.Writer} 등) 에 직접 쓰는 경우 할당하지 않는다.
+ * {@link ParameterMap} 은 엔트리 객체를 만들지 않고 순회한다.
+ *
+ * {page=[1], search=[choi, choi2]} return "page=1&search=choi&search=choi2"
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#mapToString(Map, boolean)
+ */
+public final class QueryStringWriter {
+  private QueryStringWriter() {
+  }
+
+  /**
+   * 문자열 파라메터의 길이를 계산한다.
+   * @param prefix 첫 파라메터 앞에 붙일 문자 ? | & | ''
+   * @param target 대상이될 파라메터 맵
+   * @param allowEmpty 빈값을 가진 이름을 만들지 여부
+   * @return 만들어질 문자열 파라메터 길이
+   */
+  public static int length(String prefix, Map<String, String[]> target, boolean allowEmpty) {
+    return length(UrlCodec.getDefault(), prefix, target, allowEmpty);
+  }
+
+  static int length(UrlCodec codec, String prefix, Map<String, String[]> target, boolean allowEmpty) {
+    int length = 0;
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+      length += length(codec, cursor.key(), cursor.value(), allowEmpty);
+    }
+
+    return finish(prefix, length);
+  }
+
+  /**
+   * 이름 하나에 해당하는 파라메터들의 인코딩된 길이를 계산한다. 각 파라메터 앞의 구분자 길이를 포함한다.
+   */
+  static int length(UrlCodec codec, String name, String[] values, boolean allowEmpty) {
+    if (values == null || values.length == 0) {
+      return allowEmpty ? codec.encodedLength(name) + 2 : 0;
+    }
+
+    int nameLength = codec.encodedLength(name);
+    int length = 0;
+    for (String value : values) {
+      length += nameLength + codec.encodedLength(value) + 2;
+    }
+    return length;
+  }
+
+  /**
+   * {@link #length(UrlCodec, String, String[], boolean)} 를 모두 더한 값에서 첫 구분자 대신 prefix 길이를 반영한다.
+   */
+  static int finish(String prefix, int length) {
+    return length == 0 ? 0 : length - 1 + prefix.length();
+  }
+
+  /**
+   * 파라메터 맵을 문자열 파라메터로 만들어 반환한다.
+   * @param prefix 첫 파라메터 앞에 붙일 문자 ? | & | ''. 만들어진 파라메터가 없으면 붙이지 않는다.
+   * @param target 대상이될 파라메터 맵
+   * @param allowEmpty 빈값을 가진 이름을 만들지 여부
+   * @return parameter string
+   */
+  public static String write(String prefix, Map<String, String[]> target, boolean allowEmpty) {
+    return write(UrlCodec.getDefault(), prefix, target, allowEmpty);
+  }
+
+  static String write(UrlCodec codec, String prefix, Map<String, String[]> target, boolean allowEmpty) {
+    if (target == null || target.isEmpty()) {
+      return "";
+    }
+
+    int length = length(codec, prefix, target, allowEmpty);
+    if (length == 0) {
+      return "";
+    }
+
+    StringBuilder result = new StringBuilder(length);
+    try {
+      write(codec, prefix, target, allowEmpty, result);
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+    return result.toString();
+  }
+
+  /**
+   * 파라메터 맵을 문자열 파라메터로 만들어 out 에 쓴다.
+   * @param prefix 첫 파라메터 앞에 붙일 문자 ? | & | ''. 만들어진 파라메터가 없으면 쓰지 않는다.
+   * @param target 대상이될 파라메터 맵
+   * @param allowEmpty 빈값을 가진 이름을 만들지 여부
+   * @param out 출력 대상
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public static <A extends Appendable> A write(String prefix, Map<String, String[]> target, boolean allowEmpty, A out)
+    throws IOException {
+    return write(UrlCodec.getDefault(), prefix, target, allowEmpty, out);
+  }
+
+  static <A extends Appendable> A write(UrlCodec codec, String prefix, Map<String, String[]> target, boolean allowEmpty,
+    A out) throws IOException {
+    if (target == null || target.isEmpty()) {
+      return out;
+    }
+
+    boolean first = true;
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+      first = append(out, codec, first, prefix, cursor.key(), cursor.value(), allowEmpty);
+    }
+
+    return out;
+  }
+
+  /**
+   * 이름 하나에 해당하는 파라메터들을 쓴다.
+   * @return 아직 아무것도 쓰지 않았다면 true
+   */
+  static boolean append(Appendable out, UrlCodec codec, boolean first, String prefix, String name, String[] values,
+    boolean allowEmpty) throws IOException {
+    if (values == null || values.length == 0) {
+      return allowEmpty ? pair(out, codec, first, prefix, name, "") : first;
+    }
+
+    for (String value : values) {
+      first = pair(out, codec, first, prefix, name, value);
+    }
+    return first;
+  }
+
+  private static boolean pair(Appendable out, UrlCodec codec, boolean first, String prefix, String name, String value)
+    throws IOException {
+    out.append(first ? prefix : "&");
+    codec.encode(name, out);
+    out.append('=');
+    codec.encode(value, out);
+    return false;
+  }
+}
@@ -0,0 +1,398 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * merge, pick 에 사용할 문자열 파라메터 구문을 미리 분석해 둔 불변 객체.
+ * 템플릿에서 사용하는 구문은 대부분 상수이므로 한번만 분석하고,
+ * 대상 파라메터 맵에 적용할 때는 맵 조회와 쓰기만 한다.
+ *
+ * QueryTemplate template = ParameterUtils.compile("?page=&mode=save");
+ * template.merge(request.getParameterMap());
+ * template.pick(request.getParameterMap());
+ * template.mergeAll(request.getParameterMap(), "page", 1, 10);
+ * template.mergeView(QueryView.parse(request.getQueryString()));
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#compile(String)
+ */
+public final class QueryTemplate {
+  /**
+   * {@link #mergeAll(Map, String, int, int)} 가 만드는 최대 개수
+   */
+  public static final int MAX_RANGE_SIZE = 10000;
+
+  private final String query;
+  private final String prefix;
+  private final UrlCodec codec;
+  private final Map<String, String[]> parameters;
+  private final List<String> pickNames;
+  private final String[] names;
+
+  QueryTemplate(String query, String prefix, UrlCodec codec, Map<String, String[]> parameters) {
+    this.query = query;
+    this.prefix = prefix;
+    this.codec = codec;
+    this.parameters = parameters instanceof ParameterMap
+      ? ((ParameterMap) parameters).readOnly() : Collections.unmodifiableMap(parameters);
+
+    List<String> names = new ArrayList<>();
+    for (Map.Entry<String, String[]> map : parameters.entrySet()) {
+      if (map.getValue() == null || map.getValue().length == 0) {
+        names.add(map.getKey());
+      }
+    }
+    this.pickNames = Collections.unmodifiableList(names);
+    this.names = parameters.keySet().toArray(new String[0]);
+  }
+
+  /**
+   * @return 분석 전 문자열 파라메터 구문
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return 구문 첫 문자가 ? 혹은 & 인 경우 해당 문자 ? | & | ''
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * @return 구문을 디코딩하고 결과를 인코딩하는 코덱
+   */
+  public UrlCodec getCodec() {
+    return codec;
+  }
+
+  /**
+   * @return 빈값을 가진 이름 목록. pick 에서 대상 파라메터 맵의 값을 가져올 이름이다.
+   */
+  public List<String> getPickNames() {
+    return pickNames;
+  }
+
+  /**
+   * @see ParameterUtils#merge(Map, String)
+   * @param target parameter map
+   * @return parameter string
+   */
+  public String merge(Map<String, String[]> target) {
+    return merge(target, false);
+  }
+
+  /**
+   * @see ParameterUtils#merge(Map, String, boolean)
+   * @param target parameter map
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부
+   * @return parameter string
+   */
+  public String merge(Map<String, String[]> target, boolean allowEmpty) {
+    int length = 0;
+    if (target != null) {
+      for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+        length += QueryStringWriter.length(codec, cursor.key(), override(cursor), allowEmpty);
+      }
+    }
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(parameters); cursor.next(); ) {
+      if (target == null || !target.containsKey(cursor.key())) {
+        length += QueryStringWriter.length(codec, cursor.key(), cursor.value(), allowEmpty);
+      }
+    }
+
+    length = QueryStringWriter.finish(prefix, length);
+    if (length == 0) {
+      return "";
+    }
+
+    return write(new StringBuilder(length), target, allowEmpty, true).toString();
+  }
+
+  /**
+   * @see ParameterUtils#merge(Map, String, boolean, Appendable)
+   * @param target parameter map
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부
+   * @param out 출력 대상
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public <A extends Appendable> A merge(Map<String, String[]> target, boolean allowEmpty, A out) throws IOException {
+    boolean first = true;
+    if (target != null) {
+      for (ParameterMap.Cursor cursor = ParameterMap.cursor(target); cursor.next(); ) {
+        first = QueryStringWriter.append(out, codec, first, prefix, cursor.key(), override(cursor), allowEmpty);
+      }
+    }
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(parameters); cursor.next(); ) {
+      if (target == null || !target.containsKey(cursor.key())) {
+        first = QueryStringWriter.append(out, codec, first, prefix, cursor.key(), cursor.value(), allowEmpty);
+      }
+    }
+    return out;
+  }
+
+  /**
+   * @see #mergeView(QueryView, boolean)
+   * @param target 대상 문자열 파라메터의 뷰
+   * @return parameter string
+   */
+  public String mergeView(QueryView target) {
+    return mergeView(target, false);
+  }
+
+  /**
+   * {@link #merge(Map, boolean)} 와 같지만 분석한 맵 대신 원본 문자열 파라메터의 {@link QueryView} 를 사용한다.
+   * 구문에 없는 파라메터는 디코딩하지 않고 원본 구간을 그대로 복사하므로 대부분 문자열 복사만 한다.
+   * 크기는 원본 길이와 구문으로 미리 계산한다.
+   * @param target 대상 문자열 파라메터의 뷰
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부
+   * @return parameter string
+   */
+  public String mergeView(QueryView target, boolean allowEmpty) {
+    int length = target == null || target.isEmpty() ? 0 : target.getQuery().length() + 1;
+    for (String name : names) {
+      length += QueryStringWriter.length(codec, name, parameters.get(name), allowEmpty);
+    }
+
+    length = QueryStringWriter.finish(prefix, length);
+    if (length == 0) {
+      return "";
+    }
+
+    try {
+      return mergeView(target, allowEmpty, new StringBuilder(length)).toString();
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@link #mergeView(QueryView, boolean)} 의 결과를 out 에 직접 쓴다.
+   * @param target 대상 문자열 파라메터의 뷰
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부
+   * @param out 출력 대상
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public <A extends Appendable> A mergeView(QueryView target, boolean allowEmpty, A out) throws IOException {
+    boolean first = true;
+    int size = target == null ? 0 : target.size();
+    for (int i = 0; i < size; i++) {
+      String name = override(target, i);
+      first = name == null ? target.append(out, codec, first, prefix, i, allowEmpty)
+        : QueryStringWriter.append(out, codec, first, prefix, name, parameters.get(name), allowEmpty);
+    }
+    for (String name : names) {
+      if (target == null || target.indexOf(name) < 0) {
+        first = QueryStringWriter.append(out, codec, first, prefix, name, parameters.get(name), allowEmpty);
+      }
+    }
+    return out;
+  }
+
+  /**
+   * @return 뷰의 index 이름을 덮어쓰는 구문의 이름. 없으면 null
+   */
+  private String override(QueryView target, int index) {
+    for (String name : names) {
+      if (target.nameEquals(index, name)) {
+        return name;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * name 파라메터의 값을 from 부터 to 까지 바꾼 merge 결과를 반환한다. 페이지 링크 등에 사용한다.
+   * @see #mergeAll(Map, String, Iterable, boolean)
+   * @param target parameter map
+   * @param name 값을 바꿀 파라메터 이름
+   * @param from 시작 값
+   * @param to 마지막 값 (포함)
+   * @return parameter string 목록. from 이 to 보다 크면 빈 목록
+   * @throws IllegalArgumentException 범위가 {@link #MAX_RANGE_SIZE} 보다 큰 경우
+   */
+  public List<String> mergeAll(Map<String, String[]> target, String name, int from, int to) {
+    if (from > to) {
+      return Collections.emptyList();
+    }
+    if ((long) to - from + 1 > MAX_RANGE_SIZE) {
+      throw new IllegalArgumentException("Range " + from + ".." + to + " exceeds " + MAX_RANGE_SIZE + " values");
+    }
+
+    Variation variation = variation(target, name, false);
+    List<String> result = new ArrayList<>((int) Math.min((long) to - from + 1, 1024));
+    for (long value = from; value <= to; value++) {
+      result.add(variation.merge(Long.toString(value)));
+    }
+    return result;
+  }
+
+  /**
+   * name 파라메터의 값만 바꾼 merge 결과를 values 순서대로 반환한다. 정렬 링크 등에 사용한다.
+   * name 앞과 뒤의 파라메터는 한번만 문자열로 만들고, 값마다 name 파라메터만 인코딩하여 이어 붙인다.
+   * 결과는 값마다 merge 를 호출한 것과 같다. name 은 대상 파라메터 맵에 있으면 그 위치에, 없으면 뒤에 추가한다.
+   * @param target parameter map
+   * @param name 값을 바꿀 파라메터 이름
+   * @param values name 파라메터의 값 목록. 빈값은 allowEmpty 가 false 인 경우 name 파라메터를 제거한다.
+   * @param allowEmpty 빈값을 가진 파라메터를 제거할지 여부
+   * @return parameter string 목록
+   */
+  public List<String> mergeAll(Map<String, String[]> target, String name, Iterable<String> values, boolean allowEmpty) {
+    Variation variation = variation(target, name, allowEmpty);
+    List<String> result = values instanceof Collection ? new ArrayList<>(((Collection<?>) values).size()) : new ArrayList<>();
+    for (String value : values) {
+      result.add(variation.merge(value));
+    }
+    return result;
+  }
+
+  private Variation variation(Map<String, String[]> target, String name, boolean allowEmpty) {
+    if (name == null || name.length() == 0) {
+      throw new IllegalArgumentException("Parameter name must not be empty");
+    }
+
+    StringBuilder head = new StringBuilder();
+    StringBuilder tail = new StringBuilder();
+    boolean found = false;
+    boolean first = true;
+    try {
+      Map<String, String[]> merged = ParameterMap.overlay(target, parameters);
+      for (ParameterMap.Cursor cursor = ParameterMap.cursor(merged); cursor.next(); ) {
+        if (found) {
+          QueryStringWriter.append(tail, codec, false, prefix, cursor.key(), cursor.value(), allowEmpty);
+        } else if (name.equals(cursor.key())) {
+          found = true;
+        } else {
+          first = QueryStringWriter.append(head, codec, first, prefix, cursor.key(), cursor.value(), allowEmpty);
+        }
+      }
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+    return new Variation(head.toString(), codec.encode(name), tail.toString(), allowEmpty);
+  }
+
+  /**
+   * 바꿀 파라메터 앞 (prefix 포함) 과 뒤 (& 로 시작) 를 미리 만들어 둔 문자열.
+   */
+  private final class Variation {
+    private final String head;
+    private final String name;
+    private final String tail;
+    private final boolean allowEmpty;
+
+    private Variation(String head, String name, String tail, boolean allowEmpty) {
+      this.head = head;
+      this.name = name;
+      this.tail = tail;
+      this.allowEmpty = allowEmpty;
+    }
+
+    private String merge(String value) {
+      if (value == null || value.length() == 0) {
+        if (!allowEmpty) {
+          return join();
+        }
+        value = "";
+      }
+
+      StringBuilder builder = new StringBuilder(
+        head.length() + prefix.length() + name.length() + codec.encodedLength(value) + tail.length() + 2);
+      builder.append(head.length() == 0 ? prefix : head);
+      if (head.length() > 0) {
+        builder.append('&');
+      }
+      builder.append(name).append('=');
+      try {
+        codec.encode(value, builder);
+      } catch (IOException e) {
+        // StringBuilder 는 IOException 이 발생하지 않는다.
+        throw new UncheckedIOException(e);
+      }
+      return builder.append(tail).toString();
+    }
+
+    private String join() {
+      if (head.length() > 0) {
+        return head.concat(tail);
+      }
+      return tail.length() == 0 ? "" : prefix.concat(tail.substring(1));
+    }
+  }
+
+  /**
+   * @see ParameterUtils#pick(Map, String)
+   * @param target parameter map
+   * @return parameter string
+   */
+  public String pick(Map<String, String[]> target) {
+    int length = 0;
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(parameters); cursor.next(); ) {
+      length += QueryStringWriter.length(codec, cursor.key(), pick(target, cursor), false);
+    }
+
+    length = QueryStringWriter.finish(prefix, length);
+    if (length == 0) {
+      return "";
+    }
+
+    return write(new StringBuilder(length), target, false, false).toString();
+  }
+
+  /**
+   * @see ParameterUtils#pick(Map, String, Appendable)
+   * @param target parameter map
+   * @param out 출력 대상
+   * @param <A> Appendable type
+   * @return out
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public <A extends Appendable> A pick(Map<String, String[]> target, A out) throws IOException {
+    boolean first = true;
+    for (ParameterMap.Cursor cursor = ParameterMap.cursor(parameters); cursor.next(); ) {
+      first = QueryStringWriter.append(out, codec, first, prefix, cursor.key(), pick(target, cursor), false);
+    }
+    return out;
+  }
+
+  private String[] override(ParameterMap.Cursor cursor) {
+    String[] values = parameters.get(cursor.key());
+    return values == null ? cursor.value() : values;
+  }
+
+  private static String[] pick(Map<String, String[]> target, ParameterMap.Cursor cursor) {
+    String[] values = cursor.value();
+    if (values == null || values.length == 0) {
+      return target == null ? null : target.get(cursor.key());
+    }
+    return values;
+  }
+
+  private StringBuilder write(StringBuilder builder, Map<String, String[]> target, boolean allowEmpty, boolean merge) {
+    try {
+      return merge ? merge(target, allowEmpty, builder) : pick(target, builder);
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return query;
+  }
+}
@@ -0,0 +1,501 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 문자열 파라메터 (query string) 를 복사하지 않고 위치만 기록한 불변 뷰.
+ * {@link QueryStringParser} 와 달리 이름과 값을 문자열로 만들지 않고 원본의 시작, 구분자, 끝 위치만 int 배열에 저장한다.
+ * 디코딩과 복사는 값을 읽을 때 ({@link #get(String)}, {@link #values(int)}) 만 한다.
+ *
+ * {@link QueryTemplate#mergeView(QueryView, boolean, Appendable)} 는 바뀌지 않는 파라메터를 원본 구간에서 그대로 복사한다.
+ * 원본 구간을 그대로 쓰는 조건은 인코딩할 문자가 없거나 {@link UrlCodec} 이 만드는 형식 (대문자 16진수 %XX, 공백은 +) 과 같은 경우이다.
+ * UTF-8 은 %XX 바이트가 올바른 순서인지도 확인한다. 잘못된 순서 (%FF, 끝나지 않은 %C3 등) 와 UTF-8 이 아닌 언어셋의
+ * 0x80 이상 바이트, 그외 (%20, 소문자 16진수, ~ 등) 는 디코딩한 후 다시 인코딩하므로 결과는 분석한 맵으로 merge 한 것과 같다.
+ *
+ * 같은 이름이 여러번 나오면 처음 나온 위치에 모으며 빈 구간(&&)은 무시한다. 순서는 {@link ParameterUtils#parse(String, UrlCodec)} 와 같다.
+ * 잘못된 인코딩 (%zz) 은 만들 때 확인한다. {@link QueryLimits} 는 적용하지 않는다.
+ *
+ * QueryView view = QueryView.parse(request.getQueryString());
+ * ParameterUtils.compile("page=2").mergeView(view);
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see ParameterUtils#mergeQuery(CharSequence, String, boolean)
+ */
+public final class QueryView {
+  private static final String[] NO_VALUES = new String[0];
+
+  // 파라메터 하나에 시작, 구분자 (없으면 -1), 끝, 플래그를 저장한다.
+  private static final int START = 0;
+  private static final int SEPARATOR = 1;
+  private static final int END = 2;
+  private static final int FLAGS = 3;
+  private static final int STRIDE = 4;
+
+  // % 혹은 + 가 있어 디코딩해야 한다.
+  private static final int NAME_ENCODED = 1;
+  private static final int VALUE_ENCODED = 1 << 1;
+  // UrlCodec 으로 인코딩한 결과와 같아 그대로 쓸 수 있다.
+  private static final int NAME_RAW = 1 << 2;
+  private static final int VALUE_RAW = 1 << 3;
+
+  private final CharSequence query;
+  private final UrlCodec codec;
+
+  private final int[] pairs;
+  // 같은 이름의 다음 파라메터. 없으면 -1
+  private final int[] next;
+  private int pairCount;
+
+  // 이름마다 첫 파라메터, 마지막 파라메터, 해시, 디코딩한 이름
+  private final int[] firsts;
+  private final int[] lasts;
+  private final int[] hashes;
+  private final String[] names;
+  private int size;
+  // 값은 이름 위치 + 1, 0 은 빈 슬롯
+  private int[] table;
+
+  private QueryView(CharSequence query, UrlCodec codec) {
+    this.query = query;
+    this.codec = codec;
+    int length = query.length();
+
+    // & 의 수로 파라메터 수의 최대 값을 구해 배열을 한번만 할당한다.
+    int capacity = 1;
+    for (int i = 0; i < length; i++) {
+      if (query.charAt(i) == '&') {
+        capacity++;
+      }
+    }
+    pairs = new int[capacity * STRIDE];
+    next = new int[capacity];
+    firsts = new int[capacity];
+    lasts = new int[capacity];
+    hashes = new int[capacity];
+    names = new String[capacity];
+
+    int start = 0;
+    int separator = -1;
+    int flags = NAME_RAW | VALUE_RAW;
+    int hash = 0;
+    boolean utf8 = StandardCharsets.UTF_8.equals(codec.getCharset());
+    // 이어서 나와야 하는 UTF-8 바이트 수와 다음 바이트의 범위
+    int remaining = 0;
+    int min = 0;
+    int max = 0;
+
+    for (int i = 0; i <= length; i++) {
+      char c = i < length ? query.charAt(i) : '&';
+      boolean name = separator == -1;
+
+      if (remaining > 0 && c != '%') {
+        // 끝나지 않은 바이트 순서는 디코딩하면 U+FFFD 가 된다.
+        flags &= name ? ~NAME_RAW : ~VALUE_RAW;
+        remaining = 0;
+      }
+
+      if (c == '&') {
+        if (i > start) {
+          add(start, separator, i, flags, hash);
+        }
+        start = i + 1;
+        separator = -1;
+        flags = NAME_RAW | VALUE_RAW;
+        hash = 0;
+      } else if (c == '=' && name) {
+        separator = i;
+      } else {
+        if (name) {
+          hash = 31 * hash + c;
+        }
+        if (c == '%') {
+          flags |= name ? NAME_ENCODED : VALUE_ENCODED;
+          int b = escape(i, length);
+          // UrlCodec 은 대문자 16진수를 쓴다.
+          boolean raw = upper(query.charAt(i + 1)) && upper(query.charAt(i + 2));
+          if (remaining > 0) {
+            if (b >= min && b <= max) {
+              remaining--;
+              min = 0x80;
+              max = 0xBF;
+            } else {
+              raw = false;
+              remaining = 0;
+            }
+          } else if (b < 0x80) {
+            // 인코딩하지 않는 문자와 공백 (+) 은 % 로 쓰지 않는다.
+            raw &= b != ' ' && !UrlCodec.isSafe((char) b);
+          } else if (!utf8) {
+            // UTF-8 이 아닌 언어셋은 바이트 순서를 확인하지 않으므로 다시 인코딩한다.
+            raw = false;
+          } else {
+            int lead = lead(b);
+            if (lead == -1) {
+              raw = false;
+            } else {
+              remaining = lead >>> 16;
+              min = (lead >>> 8) & 0xFF;
+              max = lead & 0xFF;
+            }
+          }
+          if (!raw) {
+            flags &= name ? ~NAME_RAW : ~VALUE_RAW;
+          }
+          i += 2;
+        } else if (c == '+') {
+          flags |= name ? NAME_ENCODED : VALUE_ENCODED;
+        } else if (!UrlCodec.isSafe(c)) {
+          flags &= name ? ~NAME_RAW : ~VALUE_RAW;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@link UrlCodec#getDefault()} 로 디코딩하는 뷰를 만든다.
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터. null 인 경우 빈 뷰
+   * @return query view
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  public static QueryView parse(CharSequence query) {
+    return parse(query, UrlCodec.getDefault());
+  }
+
+  /**
+   * @param query & 혹은 ? 로 시작하지 않는 문자열 파라메터. null 인 경우 빈 뷰
+   * @param codec 디코딩에 사용할 코덱. 원본 구간을 그대로 쓰려면 merge 에 사용하는 코덱과 언어셋이 같아야 한다.
+   * @return query view
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  public static QueryView parse(CharSequence query, UrlCodec codec) {
+    return new QueryView(query == null ? "" : query, codec);
+  }
+
+  /**
+   * % 다음 16진수 두자리를 확인한다.
+   * @return 디코딩한 바이트
+   */
+  private int escape(int index, int length) {
+    if (index + 2 >= length || query.charAt(index + 1) == '&' || query.charAt(index + 2) == '&') {
+      throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+    }
+
+    return (hex(query.charAt(index + 1)) << 4) | hex(query.charAt(index + 2));
+  }
+
+  /**
+   * UTF-8 첫 바이트 다음에 이어질 바이트 수와 두번째 바이트의 범위. overlong, surrogate, U+10FFFF 초과는 잘못된 순서이다.
+   * @return (이어질 바이트 수 << 16) | (최소 << 8) | 최대. 첫 바이트가 될 수 없으면 -1
+   */
+  private static int lead(int b) {
+    if (b >= 0xC2 && b <= 0xDF) {
+      return 1 << 16 | 0x80 << 8 | 0xBF;
+    } else if (b == 0xE0) {
+      return 2 << 16 | 0xA0 << 8 | 0xBF;
+    } else if (b == 0xED) {
+      return 2 << 16 | 0x80 << 8 | 0x9F;
+    } else if (b >= 0xE1 && b <= 0xEF) {
+      return 2 << 16 | 0x80 << 8 | 0xBF;
+    } else if (b == 0xF0) {
+      return 3 << 16 | 0x90 << 8 | 0xBF;
+    } else if (b >= 0xF1 && b <= 0xF3) {
+      return 3 << 16 | 0x80 << 8 | 0xBF;
+    } else if (b == 0xF4) {
+      return 3 << 16 | 0x80 << 8 | 0x8F;
+    }
+    return -1;
+  }
+
+  private static int hex(char c) {
+    int digit = Character.digit(c, 16);
+    if (digit == -1) {
+      throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern - " + c);
+    }
+    return digit;
+  }
+
+  private static boolean upper(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F');
+  }
+
+  private void add(int start, int separator, int end, int flags, int hash) {
+    int nameEnd = separator == -1 ? end : separator;
+    String name = null;
+    if ((flags & NAME_ENCODED) != 0) {
+      name = codec.decode(query, start, nameEnd);
+      hash = name.hashCode();
+    }
+
+    int pair = pairCount++;
+    int offset = pair * STRIDE;
+    pairs[offset + START] = start;
+    pairs[offset + SEPARATOR] = separator;
+    pairs[offset + END] = end;
+    pairs[offset + FLAGS] = flags;
+    next[pair] = -1;
+
+    int index = name == null ? find(hash, query, start, nameEnd) : find(hash, name, 0, name.length());
+    if (index >= 0) {
+      next[lasts[index]] = pair;
+      lasts[index] = pair;
+      return;
+    }
+
+    firsts[size] = pair;
+    lasts[size] = pair;
+    hashes[size] = hash;
+    names[size] = name;
+    size++;
+
+    if (table != null) {
+      if (size * 2 > table.length) {
+        rehash();
+      } else {
+        insert(size - 1);
+      }
+    } else if (size > ParameterMap.HASH_THRESHOLD) {
+      rehash();
+    }
+  }
+
+  private int find(int hash, CharSequence name, int from, int to) {
+    if (table == null) {
+      for (int i = 0; i < size; i++) {
+        if (hashes[i] == hash && nameEquals(i, name, from, to)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    int mask = table.length - 1;
+    for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+      int index = table[slot] - 1;
+      if (index < 0) {
+        return -1;
+      }
+      if (hashes[index] == hash && nameEquals(index, name, from, to)) {
+        return index;
+      }
+    }
+  }
+
+  private void rehash() {
+    table = new int[Integer.highestOneBit(size * 4)];
+    for (int i = 0; i < size; i++) {
+      insert(i);
+    }
+  }
+
+  private void insert(int index) {
+    int mask = table.length - 1;
+    int slot = spread(hashes[index]) & mask;
+    while (table[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = index + 1;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * index 이름과 name 의 from 부터 to 까지가 같은지 비교한다. 인코딩되지 않은 이름은 원본 구간과 비교한다.
+   */
+  private boolean nameEquals(int index, CharSequence name, int from, int to) {
+    if (names[index] != null) {
+      return regionEquals(names[index], 0, names[index].length(), name, from, to);
+    }
+
+    int offset = firsts[index] * STRIDE;
+    int start = pairs[offset + START];
+    int separator = pairs[offset + SEPARATOR];
+    return regionEquals(query, start, separator == -1 ? pairs[offset + END] : separator, name, from, to);
+  }
+
+  private static boolean regionEquals(CharSequence a, int aFrom, int aTo, CharSequence b, int bFrom, int bTo) {
+    if (aTo - aFrom != bTo - bFrom) {
+      return false;
+    }
+    for (int i = aFrom, j = bFrom; i < aTo; i++, j++) {
+      if (a.charAt(i) != b.charAt(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return 원본 문자열 파라메터
+   */
+  public CharSequence getQuery() {
+    return query;
+  }
+
+  /**
+   * @return 디코딩에 사용하는 코덱
+   */
+  public UrlCodec getCodec() {
+    return codec;
+  }
+
+  /**
+   * @return 이름 수
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @param name 파라메터 이름
+   * @return 이름의 위치. 없으면 -1
+   */
+  public int indexOf(String name) {
+    return name == null || size == 0 ? -1 : find(name.hashCode(), name, 0, name.length());
+  }
+
+  boolean nameEquals(int index, String name) {
+    return nameEquals(index, name, 0, name.length());
+  }
+
+  /**
+   * @param index 이름의 위치
+   * @return 디코딩한 이름
+   */
+  public String name(int index) {
+    checkIndex(index);
+    String name = names[index];
+    if (name == null) {
+      int offset = firsts[index] * STRIDE;
+      int separator = pairs[offset + SEPARATOR];
+      name = query.subSequence(pairs[offset + START], separator == -1 ? pairs[offset + END] : separator).toString();
+      names[index] = name;
+    }
+    return name;
+  }
+
+  /**
+   * 이름의 값을 디코딩하여 반환한다. 빈값은 포함하지 않는다.
+   * @param index 이름의 위치
+   * @return 디코딩한 값 목록. 빈값만 있으면 빈 배열
+   */
+  public String[] values(int index) {
+    checkIndex(index);
+    int count = 0;
+    for (int pair = firsts[index]; pair != -1; pair = next[pair]) {
+      if (hasValue(pair)) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return NO_VALUES;
+    }
+
+    String[] values = new String[count];
+    count = 0;
+    for (int pair = firsts[index]; pair != -1; pair = next[pair]) {
+      if (hasValue(pair)) {
+        int offset = pair * STRIDE;
+        values[count++] = codec.decode(query, pairs[offset + SEPARATOR] + 1, pairs[offset + END]);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @param name 파라메터 이름
+   * @return 디코딩한 값 목록. 이름이 없으면 null
+   */
+  public String[] get(String name) {
+    int index = indexOf(name);
+    return index < 0 ? null : values(index);
+  }
+
+  /**
+   * 모든 이름과 값을 디코딩하여 수정할 수 없는 맵으로 반환한다. {@link ParameterUtils#parse(String, UrlCodec, QueryLimits)} 로
+   * 제한 없이 분석한 결과와 같다.
+   * @return parameter map
+   */
+  public Map<String, String[]> toMap() {
+    ParameterMap result = new ParameterMap(size);
+    for (int i = 0; i < size; i++) {
+      result.append(name(i), values(i));
+    }
+    return result.readOnly();
+  }
+
+  private boolean hasValue(int pair) {
+    int offset = pair * STRIDE;
+    int separator = pairs[offset + SEPARATOR];
+    return separator != -1 && separator + 1 < pairs[offset + END];
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * 이름 하나에 해당하는 파라메터들을 쓴다. {@link QueryStringWriter} 와 같은 형식이다.
+   * codec 의 언어셋이 뷰의 언어셋과 같으면 그대로 쓸 수 있는 이름과 값은 원본 구간을 복사한다.
+   * @return 아직 아무것도 쓰지 않았다면 true
+   */
+  boolean append(Appendable out, UrlCodec codec, boolean first, String prefix, int index, boolean allowEmpty)
+    throws IOException {
+    boolean raw = codec == this.codec || codec.getCharset().equals(this.codec.getCharset());
+    int head = firsts[index] * STRIDE;
+    boolean rawName = raw && (pairs[head + FLAGS] & NAME_RAW) != 0;
+    boolean written = false;
+
+    for (int pair = firsts[index]; pair != -1; pair = next[pair]) {
+      if (!hasValue(pair)) {
+        continue;
+      }
+
+      int offset = pair * STRIDE;
+      int separator = pairs[offset + SEPARATOR];
+      int end = pairs[offset + END];
+      out.append(first ? prefix : "&");
+      appendName(out, codec, rawName, index, head);
+      out.append('=');
+      if (raw && (pairs[offset + FLAGS] & VALUE_RAW) != 0) {
+        out.append(query, separator + 1, end);
+      } else {
+        codec.encode(this.codec.decode(query, separator + 1, end), out);
+      }
+      first = false;
+      written = true;
+    }
+
+    if (!written && allowEmpty) {
+      out.append(first ? prefix : "&");
+      appendName(out, codec, rawName, index, head);
+      out.append('=');
+      first = false;
+    }
+    return first;
+  }
+
+  private void appendName(Appendable out, UrlCodec codec, boolean raw, int index, int head) throws IOException {
+    if (raw) {
+      int separator = pairs[head + SEPARATOR];
+      out.append(query, pairs[head + START], separator == -1 ? pairs[head + END] : separator);
+    } else {
+      codec.encode(name(index), out);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return query.toString();
+  }
+}
@@ -1,61 +1,117 @@
 package org.syaku.springboot.web.utils;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-
-import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Seok Kyun. Choi. 최석균 (Syaku)
  * @since 2018. 7. 3.
  */
-@Slf4j
 public final class StringUtils {
-  private static String charset = "UTF-8";
-
   /**
-   * {@link URLDecoder} 에 사용될 언어셋을 설정할 수 있다.
+   * 문자열 처리에 사용될 언어셋을 설정할 수 있다.
+   * {@link UrlCodec#setDefault(UrlCodec)}, {@link TextAbbreviator#setDefault(TextAbbreviator)} 를 사용한다.
    * @param charset String default UTF-8
+   * @deprecated 스프링 부트 syaku.web.charset 속성 혹은 {@link UrlCodec#setDefault(UrlCodec)},
+   * {@link TextAbbreviator#setDefault(TextAbbreviator)} 를 사용한다.
    */
+  @Deprecated
   public static void setCharset(String charset) {
-    if (charset == null || charset.length() == 0) {
-      StringUtils.charset = charset;
+    if (charset != null && charset.length() > 0) {
+      Charset resolved = Charset.forName(charset);
+      UrlCodec.setDefault(UrlCodec.of(resolved));
+      TextAbbreviator.setDefault(TextAbbreviator.of(resolved));
     }
   }
 
+  /**
+   * @param value 인코딩할 문자열
+   * @return {@link UrlCodec#getDefault()} 로 인코딩된 문자열
+   */
+  public static String encode(String value) {
+    return UrlCodec.getDefault().encode(value);
+  }
+
+  /**
+   * @param value 디코딩할 문자열
+   * @return {@link UrlCodec#getDefault()} 로 디코딩된 문자열
+   */
+  public static String decode(String value) {
+    return UrlCodec.getDefault().decode(value);
+  }
+
+  /**
+   * @return {@link TextAbbreviator#getDefault()}
+   */
+  public static TextAbbreviator getAbbreviator() {
+    return TextAbbreviator.getDefault();
+  }
+
+  /**
+   * 코드 포인트 limit 개 까지 자르고 ending 을 붙인다. 문자열이 limit 이하이면 그대로 반환한다.
+   * @param text 문자열
+   * @param limit 최대 글자 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   * @see TextAbbreviator#abbreviate(String, int, String)
+   */
   public static String abbreviate(String text, int limit, String ending) {
-    return abbreviate(text, limit, ending, charset);
+    return getAbbreviator().abbreviate(text, limit, ending);
   }
 
+  /**
+   * @deprecated 글자 수로 자르는 데 언어셋은 사용되지 않는다. {@link #abbreviate(String, int, String)} 를 사용한다.
+   */
+  @Deprecated
   public static String abbreviate(String text, int limit, String ending, String charset) {
-    if (limit < 1 || text == null || text.length() == 0) {
-      return text;
-    }
+    return abbreviate(text, limit, ending);
+  }
 
-    try {
-      int aLimit = limit - 1;
-      String aText = new String(text.getBytes(), charset);
-      int length = aText.length();
-
-      if (aLimit > length) {
-        return aText;
-      }
-
-      StringBuffer string = new StringBuffer();
-      for (int i = 0; i < length; i++) {
-        string.append(aText.charAt(i));
-        if (i == aLimit) {
-          break;
-        }
-      }
-
-      if (ending != null) {
-        string.append(ending);
-      }
-      return string.toString();
-    } catch(UnsupportedEncodingException e) {
-      log.error(e.getMessage(), e);
-      return text;
-    }
+  /**
+   * 결합 문자 등을 나누지 않도록 grapheme cluster limit 개 까지 자르고 ending 을 붙인다.
+   * @param text 문자열
+   * @param limit 최대 글자 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   * @see TextAbbreviator#abbreviateGraphemes(String, int, String)
+   */
+  public static String abbreviateGraphemes(String text, int limit, String ending) {
+    return getAbbreviator().abbreviateGraphemes(text, limit, ending);
+  }
+
+  /**
+   * 기본 언어셋으로 인코딩했을 때 ending 을 포함하여 maxBytes 이하가 되도록 자른다.
+   * @param text 문자열
+   * @param maxBytes 최대 바이트 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   * @see TextAbbreviator#abbreviateBytes(String, int, String)
+   */
+  public static String abbreviateBytes(String text, int maxBytes, String ending) {
+    return getAbbreviator().abbreviateBytes(text, maxBytes, ending);
+  }
+
+  /**
+   * 목록의 문자열을 모두 코드 포인트 limit 개 까지 자르고 ending 을 붙인다. 목록 화면의 제목 등에 사용한다.
+   * @param texts 문자열 목록
+   * @param limit 최대 글자 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열 목록
+   * @see TextAbbreviator#abbreviateAll(List, TextAbbreviator.Mode, int, String)
+   */
+  public static List<String> abbreviateAll(List<String> texts, int limit, String ending) {
+    return getAbbreviator().abbreviateAll(texts, limit, ending);
+  }
+
+  /**
+   * @param texts 문자열 스트림
+   * @param limit 최대 글자 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열 목록
+   * @see TextAbbreviator#abbreviateAll(Stream, TextAbbreviator.Mode, int, String)
+   */
+  public static List<String> abbreviateAll(Stream<String> texts, int limit, String ending) {
+    return getAbbreviator().abbreviateAll(texts, TextAbbreviator.Mode.CODE_POINTS, limit, ending);
   }
 }
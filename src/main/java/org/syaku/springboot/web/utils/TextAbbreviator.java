@@ -0,0 +1,326 @@
+package org.syaku.springboot.web.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 문자열을 정해진 길이로 자르고 끝에 ending 을 붙인다.
+ * 문자열을 복사하지 않고 자를 위치만 계산하여 {@link String#substring(int, int)} 로 자르며,
+ * surrogate pair (이모지 등) 를 나누지 않는다.
+ *
+ * 길이의 기준
+ * abbreviate: 코드 포인트 수
+ * abbreviateGraphemes: 사용자가 인식하는 문자 (grapheme cluster) 수. 결합 문자를 나누지 않는다.
+ * abbreviateBytes: charset 으로 인코딩한 바이트 수 (ending 포함). DB 컬럼 크기 제한 등에 사용한다.
+ *
+ * 문자열이 길이 안에 들어가면 ending 을 붙이지 않고 그대로 반환한다.
+ *
+ * 목록 화면처럼 많은 문자열을 한번에 처리할 때는 abbreviateAll 을 사용한다.
+ * 문자열을 만드는 버퍼와 인코더를 목록 전체에서 재사용한다.
+ *
+ * 상태를 바꾸지 않으므로 여러 스레드가 함께 사용할 수 있다. {@link StringUtils} 는 {@link #getDefault()} 를 사용한다.
+ * 스프링 부트에서는 syaku.web.charset 속성으로 만든 빈을 주입받아 사용할 수 있다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ * @see StringUtils#abbreviate(String, int, String)
+ */
+public final class TextAbbreviator {
+  /**
+   * 길이의 기준
+   */
+  public enum Mode {
+    /** 코드 포인트 수 */
+    CODE_POINTS,
+    /** grapheme cluster 수 */
+    GRAPHEMES,
+    /** charset 으로 인코딩한 바이트 수 */
+    BYTES
+  }
+
+  public static final TextAbbreviator UTF_8 = new TextAbbreviator(StandardCharsets.UTF_8);
+
+  private static final ThreadLocal<BreakIterator> CHARACTER_BREAK =
+    ThreadLocal.withInitial(BreakIterator::getCharacterInstance);
+
+  private static volatile TextAbbreviator defaultAbbreviator = UTF_8;
+
+  private final Charset charset;
+  private final boolean utf8;
+  private final boolean singleByte;
+
+  public TextAbbreviator(Charset charset) {
+    this.charset = charset;
+    this.utf8 = StandardCharsets.UTF_8.equals(charset);
+    this.singleByte = charset.newEncoder().maxBytesPerChar() == 1.0f;
+  }
+
+  /**
+   * @param charset 바이트 길이 계산에 사용할 언어셋
+   * @return UTF-8 인 경우 {@link #UTF_8}, 그외 새로운 객체
+   */
+  public static TextAbbreviator of(Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) ? UTF_8 : new TextAbbreviator(charset);
+  }
+
+  /**
+   * @return {@link StringUtils} 가 사용하는 객체. 기본 UTF-8
+   */
+  public static TextAbbreviator getDefault() {
+    return defaultAbbreviator;
+  }
+
+  /**
+   * {@link StringUtils} 가 사용할 객체를 설정한다.
+   * @param abbreviator null 인 경우 {@link #UTF_8}
+   */
+  public static void setDefault(TextAbbreviator abbreviator) {
+    defaultAbbreviator = abbreviator == null ? UTF_8 : abbreviator;
+  }
+
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * 코드 포인트 limit 개 까지 자른다.
+   * @param text 문자열
+   * @param limit 최대 코드 포인트 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   */
+  public String abbreviate(String text, int limit, String ending) {
+    return abbreviate(text, limit, ending, null);
+  }
+
+  private String abbreviate(String text, int limit, String ending, Scratch scratch) {
+    if (limit < 1 || text == null || text.length() <= limit) {
+      return text;
+    }
+
+    int end = 0;
+    int length = text.length();
+    for (int count = 0; count < limit; count++) {
+      if (end == length) {
+        return text;
+      }
+      end += Character.charCount(text.codePointAt(end));
+    }
+
+    return end == length ? text : concat(text, end, ending, scratch);
+  }
+
+  /**
+   * grapheme cluster limit 개 까지 자른다.
+   * @param text 문자열
+   * @param limit 최대 grapheme cluster 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   */
+  public String abbreviateGraphemes(String text, int limit, String ending) {
+    return abbreviateGraphemes(text, limit, ending, null);
+  }
+
+  private String abbreviateGraphemes(String text, int limit, String ending, Scratch scratch) {
+    if (limit < 1 || text == null || text.length() <= limit) {
+      return text;
+    }
+
+    BreakIterator graphemes = CHARACTER_BREAK.get();
+    graphemes.setText(text);
+    try {
+      int end = graphemes.following(0);
+      for (int count = 1; count < limit && end != BreakIterator.DONE; count++) {
+        end = graphemes.next();
+      }
+
+      return end == BreakIterator.DONE || end == text.length() ? text : concat(text, end, ending, scratch);
+    } finally {
+      graphemes.setText("");
+    }
+  }
+
+  /**
+   * charset 으로 인코딩했을 때 ending 을 포함하여 maxBytes 바이트 이하가 되도록 자른다.
+   * 전체 문자열을 인코딩하지 않고 코드 포인트 단위로 바이트 수를 계산한다.
+   * ending 만으로 maxBytes 를 넘는 경우 ending 없이 자른다.
+   * @param text 문자열
+   * @param maxBytes 최대 바이트 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열
+   */
+  public String abbreviateBytes(String text, int maxBytes, String ending) {
+    return abbreviateBytes(text, maxBytes, ending, null);
+  }
+
+  private String abbreviateBytes(String text, int maxBytes, String ending, Scratch scratch) {
+    if (maxBytes < 1 || text == null || text.length() == 0) {
+      return text;
+    }
+
+    int length = text.length();
+    if (singleByte ? length <= maxBytes : utf8 && length * 3L <= maxBytes) {
+      return text;
+    }
+
+    if (scratch == null && !utf8 && !singleByte) {
+      scratch = new Scratch();
+    }
+    int endingBytes = ending == null ? 0 : byteLength(ending, scratch);
+    int budget = endingBytes > maxBytes ? maxBytes : maxBytes - endingBytes;
+
+    int bytes = 0;
+    int end = -1;
+    int i = 0;
+    while (i < length) {
+      int codePoint = text.codePointAt(i);
+      bytes += byteLength(codePoint, scratch);
+      if (bytes > maxBytes) {
+        break;
+      }
+
+      i += Character.charCount(codePoint);
+      if (bytes <= budget) {
+        end = i;
+      }
+    }
+
+    if (i == length) {
+      return text;
+    }
+
+    end = Math.max(end, 0);
+    return endingBytes > maxBytes ? text.substring(0, end) : concat(text, end, ending, scratch);
+  }
+
+  private int byteLength(String text, Scratch scratch) {
+    int bytes = 0;
+    for (int i = 0; i < text.length(); ) {
+      int codePoint = text.codePointAt(i);
+      bytes += byteLength(codePoint, scratch);
+      i += Character.charCount(codePoint);
+    }
+    return bytes;
+  }
+
+  private int byteLength(int codePoint, Scratch scratch) {
+    if (singleByte) {
+      return 1;
+    }
+
+    if (utf8) {
+      if (codePoint < 0x80) {
+        return 1;
+      } else if (codePoint < 0x800) {
+        return 2;
+      } else if (codePoint < 0x10000) {
+        return 3;
+      }
+      return 4;
+    }
+
+    return scratch.encode(codePoint);
+  }
+
+  private static String concat(String text, int end, String ending, Scratch scratch) {
+    if (ending == null || ending.length() == 0) {
+      return text.substring(0, end);
+    }
+
+    if (scratch == null) {
+      return new StringBuilder(end + ending.length()).append(text, 0, end).append(ending).toString();
+    }
+
+    StringBuilder builder = scratch.builder;
+    builder.setLength(0);
+    return builder.append(text, 0, end).append(ending).toString();
+  }
+
+  /**
+   * 목록의 문자열을 모두 코드 포인트 limit 개 까지 자른다.
+   * @param texts 문자열 목록
+   * @param limit 최대 코드 포인트 수
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열 목록
+   */
+  public List<String> abbreviateAll(List<String> texts, int limit, String ending) {
+    return abbreviateAll(texts, Mode.CODE_POINTS, limit, ending);
+  }
+
+  /**
+   * 목록의 문자열을 모두 mode 기준으로 limit 까지 자른다. 버퍼와 인코더를 목록 전체에서 재사용한다.
+   * @param texts 문자열 목록
+   * @param mode 길이의 기준
+   * @param limit 최대 길이
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열 목록
+   */
+  public List<String> abbreviateAll(List<String> texts, Mode mode, int limit, String ending) {
+    if (texts == null) {
+      return null;
+    }
+
+    Scratch scratch = new Scratch();
+    List<String> result = new ArrayList<>(texts.size());
+    for (String text : texts) {
+      result.add(abbreviate(text, mode, limit, ending, scratch));
+    }
+    return result;
+  }
+
+  /**
+   * 스트림의 문자열을 모두 mode 기준으로 limit 까지 자른다. 버퍼와 인코더를 공유하므로 순차 처리한다.
+   * @param texts 문자열 스트림
+   * @param mode 길이의 기준
+   * @param limit 최대 길이
+   * @param ending 잘린 경우 끝에 붙일 문자열
+   * @return 자른 문자열 목록
+   */
+  public List<String> abbreviateAll(Stream<String> texts, Mode mode, int limit, String ending) {
+    Scratch scratch = new Scratch();
+    return texts.sequential()
+      .map(text -> abbreviate(text, mode, limit, ending, scratch))
+      .collect(Collectors.toList());
+  }
+
+  private String abbreviate(String text, Mode mode, int limit, String ending, Scratch scratch) {
+    switch (mode) {
+      case GRAPHEMES:
+        return abbreviateGraphemes(text, limit, ending, scratch);
+      case BYTES:
+        return abbreviateBytes(text, limit, ending, scratch);
+      default:
+        return abbreviate(text, limit, ending, scratch);
+    }
+  }
+
+  /**
+   * 한번의 호출 혹은 목록 하나를 처리하는 동안 재사용하는 버퍼와 인코더.
+   */
+  private final class Scratch {
+    private final StringBuilder builder = new StringBuilder();
+    private final ByteBuffer bytes = ByteBuffer.allocate(8);
+    private final char[] chars = new char[2];
+    private CharsetEncoder encoder;
+
+    private int encode(int codePoint) {
+      if (encoder == null) {
+        encoder = charset.newEncoder();
+      }
+
+      encoder.reset();
+      bytes.clear();
+      encoder.encode(CharBuffer.wrap(chars, 0, Character.toChars(codePoint, chars, 0)), bytes, true);
+      encoder.flush(bytes);
+      return Math.max(bytes.position(), 1);
+    }
+  }
+}
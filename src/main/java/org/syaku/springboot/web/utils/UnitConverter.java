@@ -1,10 +1,21 @@
 package org.syaku.springboot.web.utils;
 
-import java.text.DecimalFormat;
-
 import lombok.Getter;
 
 /**
+ * 바이트 크기를 단위 문자열로 변환한다. 소수점 둘째 자리까지 표시하며 (반올림 HALF_EVEN, 뒤의 0 은 생략)
+ * {@link java.text.DecimalFormat} 없이 정수 연산으로 만든다.
+ *
+ * byteToUnit(1536, DataUnit.KB) return "1.5 KB"
+ * byteToUnit(1536) return "1.5 KB" (단위 자동 선택)
+ *
+ * 반대로 단위 문자열을 바이트 크기로 변환한다. 정규식과 {@link Double#parseDouble(String)} 을 사용하지 않는다.
+ *
+ * unitToByte("10MB") return 10485760
+ * unitToByte("1.5 GB") return 1610612736
+ * unitToByte("10 KiB") return 10240
+ * unitToByte("10 KB", true) return 10000 (SI)
+ *
  * @author Seok Kyun. Choi. 최석균 (Syaku)
  * @since 2018. 7. 3.
  */
@@ -15,51 +26,254 @@ public final class UnitConverter {
   }
 
   public enum DataUnit {
-    B("B", 1), KB("KB", 1024), MB("MB", 1048576), GB("GB", 1073741824), TB("TB", 1099511627776L);
+    B("B", 0), KB("KB", 10), MB("MB", 20), GB("GB", 30), TB("TB", 40);
+
+    private static final DataUnit[] UNITS = values();
 
     @Getter
     private String unit;
     @Getter
     private long size;
+    @Getter
+    private int shift;
 
-    DataUnit(String unit, long size) {
+    DataUnit(String unit, int shift) {
       this.unit = unit;
-      this.size = size;
+      this.size = 1L << shift;
+      this.shift = shift;
+    }
+
+    /**
+     * 크기를 1 이상으로 표시할 수 있는 가장 큰 단위를 반환한다.
+     * @param byteSize 바이트 크기
+     * @return data unit
+     */
+    public static DataUnit of(long byteSize) {
+      long size = byteSize < 0 ? -byteSize : byteSize;
+      int index = (63 - Long.numberOfLeadingZeros(size)) / 10;
+      return UNITS[index < 0 ? 0 : Math.min(index, UNITS.length - 1)];
+    }
+
+    /**
+     * B 를 제외한 단위를 첫 글자 (K, M, G, T) 로 찾는다. unitToByte 에서 사용한다.
+     * @param prefix 대문자 첫 글자
+     * @return data unit. 없으면 null
+     */
+    private static DataUnit ofPrefix(char prefix) {
+      for (int i = 1; i < UNITS.length; i++) {
+        if (UNITS[i].unit.charAt(0) == prefix) {
+          return UNITS[i];
+        }
+      }
+      return null;
     }
   }
 
+  /**
+   * 단위를 자동으로 선택하여 변환한다.
+   * @param byteSize 바이트 크기
+   * @return 1.5 KB
+   */
+  public static String byteToUnit(long byteSize) {
+    return byteToUnit(byteSize, null);
+  }
+
+  /**
+   * @param byteSize 바이트 크기
+   * @param unit 단위. null 인 경우 자동으로 선택한다.
+   * @return 1.5 KB
+   */
   public static String byteToUnit(long byteSize, DataUnit unit) {
-    double result = byteSize;
-
-    switch (unit.unit) {
-      case "B" :
-      break;
-      case "KB" :
-        result =  result / 1024;
-      break;
-      case "MB" :
-        result =  result / 1024 / 1024;
-      break;
-      case "GB" :
-        result =  result / 1024 / 1024 / 1024;
-      break;
-      case "TB" :
-        result =  result / 1024 / 1024 / 1024 / 1024;
-      break;
-      default :
-        if (DataUnit.TB.size <= byteSize) {
-          return byteToUnit(byteSize, DataUnit.TB);
-        } else if (DataUnit.GB.size <= byteSize) {
-          return byteToUnit(byteSize, DataUnit.GB);
-        } else if (DataUnit.MB.size <= byteSize) {
-          return byteToUnit(byteSize, DataUnit.MB);
-        } else if (DataUnit.KB.size <= byteSize) {
-          return byteToUnit(byteSize, DataUnit.KB);
-        } else {
-          return byteToUnit(byteSize, DataUnit.B);
+    return appendTo(new StringBuilder(24), byteSize, unit).toString();
+  }
+
+  /**
+   * 단위를 자동으로 선택하여 builder 에 쓴다. 객체를 할당하지 않는다.
+   * @param builder 출력 대상
+   * @param byteSize 바이트 크기
+   * @return builder
+   */
+  public static StringBuilder appendTo(StringBuilder builder, long byteSize) {
+    return appendTo(builder, byteSize, null);
+  }
+
+  /**
+   * 변환한 결과를 builder 에 쓴다. 객체를 할당하지 않는다.
+   * @param builder 출력 대상
+   * @param byteSize 바이트 크기
+   * @param unit 단위. null 인 경우 자동으로 선택한다.
+   * @return builder
+   */
+  public static StringBuilder appendTo(StringBuilder builder, long byteSize, DataUnit unit) {
+    if (unit == null) {
+      unit = DataUnit.of(byteSize);
+    }
+
+    int shift = unit.shift;
+    if (shift == 0) {
+      return builder.append(byteSize).append(' ').append(unit.unit);
+    }
+
+    if (byteSize < 0) {
+      builder.append('-');
+    }
+
+    // Long.MIN_VALUE 도 부호 없는 정수로 처리한다.
+    long size = byteSize < 0 ? -byteSize : byteSize;
+    long whole = size >>> shift;
+    long fraction = (size & (unit.size - 1)) * 100;
+    long hundredths = fraction >>> shift;
+    long remainder = fraction & (unit.size - 1);
+    long half = unit.size >>> 1;
+
+    if (remainder > half || (remainder == half && (hundredths & 1) == 1)) {
+      hundredths++;
+    }
+    if (hundredths == 100) {
+      whole++;
+      hundredths = 0;
+    }
+
+    builder.append(whole);
+    if (hundredths > 0) {
+      builder.append('.').append((char) ('0' + hundredths / 10));
+      if (hundredths % 10 > 0) {
+        builder.append((char) ('0' + hundredths % 10));
+      }
+    }
+    return builder.append(' ').append(unit.unit);
+  }
+
+  /**
+   * 단위 문자열을 바이트 크기로 변환한다. 단위는 {@link DataUnit} 과 같이 1024 배수이다.
+   * @param text 10MB, 1.5 GB, 10 KiB, 512 (단위가 없으면 B)
+   * @return 바이트 크기
+   * @throws IllegalArgumentException 형식이 잘못되었거나 long 범위를 넘는 경우
+   * @see #unitToByte(CharSequence, boolean)
+   */
+  public static long unitToByte(CharSequence text) {
+    return unitToByte(text, false);
+  }
+
+  /**
+   * 단위 문자열을 바이트 크기로 변환한다.
+   * 단위는 대소문자를 구분하지 않으며 B, K, KB, KiB, M, MB, MiB, G, GB, GiB, T, TB, TiB 를 사용할 수 있다.
+   * KiB 와 같은 IEC 단위는 항상 1024 배수이고, 그외 단위는 si 가 true 인 경우 1000 배수, false 인 경우 1024 배수이다.
+   * 소수점은 여섯째 자리까지 사용하고 결과는 반올림한다.
+   * @param text 10MB, 1.5 GB, 10 KiB, 512 (단위가 없으면 B)
+   * @param si KB, MB 등을 1000 배수로 처리할지 여부
+   * @return 바이트 크기
+   * @throws IllegalArgumentException 형식이 잘못되었거나 long 범위를 넘는 경우
+   */
+  public static long unitToByte(CharSequence text, boolean si) {
+    if (text == null) {
+      throw new IllegalArgumentException("Data size must not be null");
+    }
+
+    int length = text.length();
+    int i = skipWhitespace(text, 0, length);
+    int start = i;
+
+    long whole = 0;
+    while (i < length && isDigit(text.charAt(i))) {
+      whole = whole * 10 + (text.charAt(i++) - '0');
+      if (i - start > 18) {
+        throw invalid(text);
+      }
+    }
+
+    long fraction = 0;
+    long scale = 1;
+    if (i < length && text.charAt(i) == '.') {
+      i++;
+      while (i < length && isDigit(text.charAt(i))) {
+        if (scale < 1_000_000) {
+          fraction = fraction * 10 + (text.charAt(i) - '0');
+          scale *= 10;
         }
+        i++;
+      }
+    }
+
+    if (i == start || (i == start + 1 && text.charAt(start) == '.')) {
+      throw invalid(text);
+    }
+
+    i = skipWhitespace(text, i, length);
+    int unitStart = i;
+    int unitEnd = length;
+    while (unitEnd > unitStart && Character.isWhitespace(text.charAt(unitEnd - 1))) {
+      unitEnd--;
+    }
+
+    long multiplier = multiplier(text, unitStart, unitEnd, si);
+
+    long bytes;
+    try {
+      bytes = Math.multiplyExact(whole, multiplier);
+      if (fraction > 0) {
+        // fraction < 10^6, multiplier <= 2^40 이므로 넘치지 않는다.
+        bytes = Math.addExact(bytes, (fraction * multiplier + scale / 2) / scale);
+      }
+    } catch (ArithmeticException e) {
+      throw invalid(text);
+    }
+    return bytes;
+  }
+
+  private static long multiplier(CharSequence text, int start, int end, boolean si) {
+    int length = end - start;
+    if (length == 0) {
+      return 1;
+    }
+
+    char prefix = Character.toUpperCase(text.charAt(start));
+    if (length == 1 && prefix == 'B') {
+      return 1;
+    }
+
+    DataUnit unit = DataUnit.ofPrefix(prefix);
+    if (unit == null) {
+      throw invalid(text);
+    }
+
+    boolean binary = !si;
+    if (length == 2) {
+      if (Character.toUpperCase(text.charAt(start + 1)) != 'B') {
+        throw invalid(text);
+      }
+    } else if (length == 3) {
+      if (Character.toUpperCase(text.charAt(start + 1)) != 'I' || Character.toUpperCase(text.charAt(start + 2)) != 'B') {
+        throw invalid(text);
+      }
+      binary = true;
+    } else if (length != 1) {
+      throw invalid(text);
+    }
+
+    if (binary) {
+      return unit.size;
     }
 
-    return new DecimalFormat("#.##").format(result) + " " + unit.unit;
+    long multiplier = 1;
+    for (int i = 0; i < unit.shift / 10; i++) {
+      multiplier *= 1000;
+    }
+    return multiplier;
+  }
+
+  private static int skipWhitespace(CharSequence text, int index, int length) {
+    while (index < length && Character.isWhitespace(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text) {
+    return new IllegalArgumentException("'" + text + "' is not a valid data size");
   }
-}
\ No newline at end of file
+}
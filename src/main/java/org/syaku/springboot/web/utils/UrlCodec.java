@@ -0,0 +1,251 @@
+package org.syaku.springboot.web.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * application/x-www-form-urlencoded 형식의 문자열을 인코딩, 디코딩한다.
+ * {@link URLDecoder}, {@link URLEncoder} 와 결과는 같지만 언어셋 이름 대신 {@link Charset} 을 가지고 있어
+ * 호출마다 언어셋을 찾지 않고, % 혹은 + 가 없는 문자열은 디코딩하지 않으며
+ * 인코딩할 문자가 없는 문자열은 복사하지 않는다.
+ *
+ * {@link ParameterUtils}, {@link StringUtils} 는 {@link #getDefault()} 를 사용한다.
+ * 스프링 부트에서는 syaku.web.charset 속성으로 기본 언어셋을 설정한다.
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public final class UrlCodec {
+  public static final UrlCodec UTF_8 = new UrlCodec(StandardCharsets.UTF_8);
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private static volatile UrlCodec defaultCodec = UTF_8;
+
+  private final Charset charset;
+  private final boolean utf8;
+  private final int maxEncodedCharLength;
+
+  public UrlCodec(Charset charset) {
+    this.charset = charset;
+    this.utf8 = StandardCharsets.UTF_8.equals(charset);
+    this.maxEncodedCharLength = 3 * (int) Math.ceil(charset.newEncoder().maxBytesPerChar());
+  }
+
+  /**
+   * @param charset 언어셋
+   * @return UTF-8 인 경우 {@link #UTF_8}, 그외 새로운 코덱
+   */
+  public static UrlCodec of(Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) ? UTF_8 : new UrlCodec(charset);
+  }
+
+  /**
+   * @return {@link ParameterUtils}, {@link StringUtils} 가 사용하는 코덱. 기본 UTF-8
+   */
+  public static UrlCodec getDefault() {
+    return defaultCodec;
+  }
+
+  /**
+   * {@link ParameterUtils}, {@link StringUtils} 가 사용할 코덱을 설정한다.
+   * @param codec null 인 경우 {@link #UTF_8}
+   */
+  public static void setDefault(UrlCodec codec) {
+    defaultCodec = codec == null ? UTF_8 : codec;
+  }
+
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * @param value 디코딩할 문자열
+   * @return 디코딩된 문자열. % 혹은 + 가 없으면 value 를 그대로 반환한다.
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  public String decode(String value) {
+    return value == null ? null : decode(value, 0, value.length());
+  }
+
+  /**
+   * source 의 start 부터 end 까지를 디코딩한다.
+   * @param source 원본 문자열
+   * @param start 시작 위치
+   * @param end 끝 위치
+   * @return 디코딩된 문자열
+   * @throws IllegalArgumentException % 다음에 16진수 두자리가 없는 경우
+   */
+  public String decode(CharSequence source, int start, int end) {
+    int i = start;
+    while (i < end) {
+      char c = source.charAt(i);
+      if (c == '%' || c == '+') {
+        break;
+      }
+      i++;
+    }
+
+    if (i == end) {
+      return source.subSequence(start, end).toString();
+    }
+
+    StringBuilder result = new StringBuilder(end - start);
+    result.append(source, start, i);
+
+    byte[] bytes = null;
+    while (i < end) {
+      char c = source.charAt(i);
+      if (c == '+') {
+        result.append(' ');
+        i++;
+      } else if (c == '%') {
+        if (bytes == null) {
+          bytes = new byte[(end - i) / 3];
+        }
+
+        int length = 0;
+        while (i < end && source.charAt(i) == '%') {
+          if (i + 2 >= end) {
+            throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+          }
+          bytes[length++] = (byte) ((hex(source.charAt(i + 1)) << 4) | hex(source.charAt(i + 2)));
+          i += 3;
+        }
+        result.append(new String(bytes, 0, length, charset));
+      } else {
+        result.append(c);
+        i++;
+      }
+    }
+
+    return result.toString();
+  }
+
+  private static int hex(char c) {
+    int digit = Character.digit(c, 16);
+    if (digit == -1) {
+      throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern - " + c);
+    }
+    return digit;
+  }
+
+  /**
+   * @param value 인코딩할 문자열
+   * @return 인코딩된 문자열. 인코딩할 문자가 없으면 value 를 그대로 반환한다.
+   */
+  public String encode(String value) {
+    if (value == null || isSafe(value)) {
+      return value;
+    }
+
+    StringBuilder result = new StringBuilder(encodedLength(value));
+    try {
+      encode(value, result);
+    } catch (IOException e) {
+      // StringBuilder 는 IOException 이 발생하지 않는다.
+      throw new UncheckedIOException(e);
+    }
+    return result.toString();
+  }
+
+  /**
+   * value 를 인코딩하여 out 에 쓴다. 인코딩할 문자가 없으면 value 를 그대로 쓴다.
+   * @param value 인코딩할 문자열
+   * @param out 출력 대상
+   * @throws IOException out 에 쓰는 중 오류가 발생한 경우
+   */
+  public void encode(CharSequence value, Appendable out) throws IOException {
+    int length = value.length();
+    int start = 0;
+
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (isSafe(c)) {
+        continue;
+      }
+
+      out.append(value, start, i);
+
+      if (c == ' ') {
+        out.append('+');
+        start = i + 1;
+        continue;
+      }
+
+      int end = i + 1;
+      while (end < length && !isSafe(value.charAt(end)) && value.charAt(end) != ' ') {
+        end++;
+      }
+
+      for (byte b : value.subSequence(i, end).toString().getBytes(charset)) {
+        out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+      }
+      start = end;
+      i = end - 1;
+    }
+
+    out.append(value, start, length);
+  }
+
+  /**
+   * @return 문자 하나를 인코딩한 최대 길이 (%XX 를 최대 바이트 수 만큼). UTF-8 은 9
+   */
+  int getMaxEncodedCharLength() {
+    return maxEncodedCharLength;
+  }
+
+  /**
+   * 인코딩된 문자열의 길이를 계산한다. UTF-8 은 정확한 길이이고 그외 언어셋은 최대 길이이다.
+   * @param value 인코딩할 문자열
+   * @return 인코딩된 문자열 길이
+   */
+  public int encodedLength(CharSequence value) {
+    int length = value.length();
+    int result = 0;
+
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (isSafe(c) || c == ' ') {
+        result++;
+      } else if (c < 0x80) {
+        result += 3;
+      } else if (!utf8) {
+        result += maxEncodedCharLength;
+      } else if (c < 0x800) {
+        result += 6;
+      } else if (Character.isHighSurrogate(c)) {
+        // 짝이 되는 low surrogate 와 함께 4 bytes
+        result += 12;
+        i++;
+      } else {
+        result += 9;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @param value 문자열
+   * @return 인코딩할 문자가 없으면 true
+   */
+  public static boolean isSafe(CharSequence value) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      if (!isSafe(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isSafe(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+      || c == '-' || c == '_' || c == '.' || c == '*';
+  }
+}
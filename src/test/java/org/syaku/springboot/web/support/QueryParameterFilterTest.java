@@ -0,0 +1,70 @@
+package org.syaku.springboot.web.support;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.syaku.springboot.web.utils.ParameterUtils;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class QueryParameterFilterTest {
+  private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new QueryParameterControllerTest())
+    .addFilters(new QueryParameterFilter())
+    .build();
+
+  @Test
+  public void 필터_테스트() throws Exception {
+    mockMvc.perform(get("/query?page=1&search=최&search=choi&mode="))
+      .andExpect(status().isOk())
+      .andExpect(request().attribute(QueryParameterFilter.PARAMETERS_ATTRIBUTE, notNullValue()))
+      .andExpect(content().string("page=2&search=%EC%B5%9C&search=choi|unmodifiable"));
+
+    mockMvc.perform(post("/query?page=1").param("search", "choi"))
+      .andExpect(status().isOk())
+      .andExpect(request().attribute(QueryParameterFilter.PARAMETERS_ATTRIBUTE, nullValue()))
+      .andExpect(content().string("page=1&search=choi"));
+
+    mockMvc.perform(get("/query").with(request -> {
+      request.setQueryString("page=%zz");
+      return request;
+    }))
+      .andExpect(status().isOk())
+      .andExpect(request().attribute(QueryParameterFilter.PARAMETERS_ATTRIBUTE, nullValue()));
+  }
+}
+
+@RestController
+class QueryParameterControllerTest {
+  @GetMapping("query")
+  public String get(HttpServletRequest request) {
+    Map<String, String[]> parameters = QueryParameterFilter.getParameters(request);
+    try {
+      parameters.put("page", new String[] { "3" });
+      return "modifiable";
+    } catch (UnsupportedOperationException e) {
+      return ParameterUtils.merge(parameters, "page=2") + "|unmodifiable";
+    }
+  }
+
+  @PostMapping("query")
+  public String post(HttpServletRequest request) {
+    return ParameterUtils.merge(QueryParameterFilter.getParameters(request), "");
+  }
+}
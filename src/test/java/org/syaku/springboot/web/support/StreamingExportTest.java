@@ -0,0 +1,181 @@
+package org.syaku.springboot.web.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class StreamingExportTest {
+  private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamingExportControllerTest()).build();
+
+  @Getter
+  @AllArgsConstructor
+  public static class Attachment {
+    private String name;
+    private long size;
+  }
+
+  static final List<CsvColumn<Attachment>> COLUMNS = Arrays.asList(
+    CsvColumn.of("파일명", Attachment::getName),
+    CsvColumn.byteSize("크기", Attachment::getSize));
+
+  @Test
+  public void CSV_테스트() throws IOException {
+    List<Attachment> attachments = Arrays.asList(
+      new Attachment("a.txt", 1024),
+      new Attachment("b, \"c\".txt", 1536 * 1024),
+      new Attachment("d\ne.txt", 10),
+      new Attachment(null, 0));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count = StreamingExport.DEFAULT.withBom(false).writeCsv(attachments.iterator(), COLUMNS, out);
+
+    assertEquals(count, 4L);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+      "파일명,크기\r\n"
+        + "a.txt,1 KB\r\n"
+        + "\"b, \"\"c\"\".txt\",1.5 MB\r\n"
+        + "\"d\ne.txt\",10 B\r\n"
+        + ",0 B\r\n");
+  }
+
+  @Test
+  public void 수식_테스트() throws IOException {
+    List<Attachment> attachments = Arrays.asList(
+      new Attachment("=HYPERLINK(\"http://x\",\"a\")", 1),
+      new Attachment("+1", 1),
+      new Attachment("@SUM(A1)", 1),
+      new Attachment("\tcmd", 1),
+      new Attachment("a=1", -1024));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingExport.DEFAULT.withBom(false).writeCsv(attachments.iterator(), COLUMNS, out);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+      "파일명,크기\r\n"
+        + "\"'=HYPERLINK(\"\"http://x\"\",\"\"a\"\")\",1 B\r\n"
+        + "'+1,1 B\r\n"
+        + "'@SUM(A1),1 B\r\n"
+        + "'\tcmd,1 B\r\n"
+        + "a=1,'-1 KB\r\n");
+
+    out.reset();
+    StreamingExport.DEFAULT.withBom(false).withFormulaEscape(false)
+      .writeCsv(attachments.subList(1, 2).iterator(), COLUMNS, out);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), "파일명,크기\r\n+1,1 B\r\n");
+  }
+
+  @Test
+  public void BOM_테스트() throws IOException {
+    List<Attachment> attachments = Arrays.asList(new Attachment("a", 1));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    StreamingExport.DEFAULT.writeCsv(attachments.iterator(), COLUMNS, out);
+    assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).startsWith("\uFEFF파일명"));
+
+    out.reset();
+    StreamingExport.DEFAULT.withCharset(StandardCharsets.UTF_16LE).writeCsv(attachments.iterator(), COLUMNS, out);
+    assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_16LE).startsWith("\uFEFF파일명"));
+
+    // UTF-16 은 인코더가 BOM 을 쓰므로 한번만 쓴다.
+    out.reset();
+    StreamingExport.DEFAULT.withCharset(StandardCharsets.UTF_16).writeCsv(attachments.iterator(), COLUMNS, out);
+    byte[] bytes = out.toByteArray();
+    assertEquals(bytes[0], (byte) 0xFE);
+    assertEquals(bytes[1], (byte) 0xFF);
+    assertEquals(new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16BE).charAt(0), '파');
+  }
+
+  @Test
+  public void 큰_행_테스트() throws IOException {
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < 100000; i++) {
+      name.append('"');
+    }
+    List<Attachment> attachments = Arrays.asList(new Attachment(name.toString(), 1), new Attachment("a", 1));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingExport.DEFAULT.withBom(false).writeCsv(attachments.iterator(), COLUMNS, out);
+
+    String csv = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertEquals(csv.length(), "파일명,크기\r\n".length() + 200000 + "\"\",1 B\r\n".length() + "a,1 B\r\n".length());
+    assertTrue(csv.endsWith("\",1 B\r\na,1 B\r\n"));
+  }
+
+  @Test
+  public void 스트림_닫기_테스트() throws IOException {
+    boolean[] closed = new boolean[1];
+    Stream<Attachment> rows = Stream.of(new Attachment("a", 1)).onClose(() -> closed[0] = true);
+
+    ResponseEntity<StreamingResponseBody> response = StreamingExport.DEFAULT.csv(rows, "a.csv", COLUMNS);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    assertTrue(closed[0]);
+    assertEquals(out.toByteArray()[0], (byte) 0xEF);
+  }
+
+  @Test
+  public void 응답_테스트() throws Exception {
+    MvcResult result = mockMvc.perform(get("/export.csv"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+      .andExpect(header().string("Content-Disposition", "attachment; filename*=UTF-8''%EC%B2%A8%EB%B6%80.csv"));
+    assertEquals(result.getResponse().getContentAsString().split("\r\n").length, 1001);
+
+    result = mockMvc.perform(get("/export.json"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType("application/json;charset=UTF-8"))
+      .andExpect(content().string("[{\"name\":\"0.txt\",\"size\":0},{\"name\":\"1.txt\",\"size\":1024}]"));
+  }
+}
+
+@RestController
+class StreamingExportControllerTest {
+  @GetMapping("export.csv")
+  public ResponseEntity<StreamingResponseBody> csv() {
+    return StreamingExport.DEFAULT.csv(IntStream.range(0, 1000)
+      .mapToObj(i -> new StreamingExportTest.Attachment(i + ".txt", i * 1024L)), "첨부.csv", StreamingExportTest.COLUMNS);
+  }
+
+  @GetMapping("export.json")
+  public ResponseEntity<StreamingResponseBody> json() {
+    return StreamingExport.DEFAULT.json(IntStream.range(0, 2)
+      .mapToObj(i -> new StreamingExportTest.Attachment(i + ".txt", i * 1024L)), "첨부.json");
+  }
+}
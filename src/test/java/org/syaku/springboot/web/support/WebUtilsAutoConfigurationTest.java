@@ -0,0 +1,129 @@
+package org.syaku.springboot.web.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.syaku.springboot.web.utils.ByteSize;
+import org.syaku.springboot.web.utils.JsonUtils;
+import org.syaku.springboot.web.utils.QueryLimits;
+import org.syaku.springboot.web.utils.StringUtils;
+import org.syaku.springboot.web.utils.TextAbbreviator;
+import org.syaku.springboot.web.utils.UrlCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class WebUtilsAutoConfigurationTest {
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+    .withConfiguration(AutoConfigurations.of(WebUtilsAutoConfiguration.class));
+
+  @After
+  public void reset() {
+    UrlCodec.setDefault(null);
+    TextAbbreviator.setDefault(null);
+    JsonUtils.setObjectMapper(null);
+    QueryLimits.setDefault(null);
+  }
+
+  @Test
+  public void 언어셋_테스트() {
+    contextRunner.withPropertyValues("syaku.web.charset=EUC-KR").run(context -> {
+      assertEquals(context.getBean(UrlCodec.class).getCharset(), Charset.forName("EUC-KR"));
+      assertEquals(UrlCodec.getDefault().getCharset(), Charset.forName("EUC-KR"));
+      assertSame(StringUtils.getAbbreviator(), context.getBean(TextAbbreviator.class));
+      assertEquals(StringUtils.getAbbreviator().getCharset(), Charset.forName("EUC-KR"));
+    });
+
+    contextRunner.run(context -> {
+      assertEquals(UrlCodec.getDefault(), UrlCodec.UTF_8);
+      assertEquals(TextAbbreviator.getDefault(), TextAbbreviator.UTF_8);
+    });
+  }
+
+  @Test
+  public void 오브젝트매퍼_설정() {
+    contextRunner.withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+      .withPropertyValues("syaku.web.json.warmup-types=" + UploadProperties.class.getName())
+      .run(context -> {
+        assertSame(JsonUtils.getObjectMapper(), context.getBean(ObjectMapper.class));
+        // 스프링 부트 설정 (JavaTimeModule, WRITE_DATES_AS_TIMESTAMPS=false) 이 적용된다.
+        assertEquals(JsonUtils.toString(LocalDate.of(2026, 10, 18)), "\"2026-10-18\"");
+      });
+
+    JsonUtils.setObjectMapper(null);
+    contextRunner.withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+      .withPropertyValues("syaku.web.json.use-context-mapper=false")
+      .run(context -> assertNotSame(JsonUtils.getObjectMapper(), context.getBean(ObjectMapper.class)));
+  }
+
+  @Test
+  public void 파라메터_제한_설정() {
+    contextRunner.withPropertyValues("syaku.web.query.max-parameters=10", "syaku.web.query.allowed-names=page,search")
+      .run(context -> {
+        QueryLimits limits = QueryLimits.getDefault();
+        assertEquals(limits.getMaxParameters(), 10);
+        assertEquals(limits.getMaxLength(), 8192);
+        assertEquals(limits.getAllowedNames().size(), 2);
+        assertTrue(limits.getAllowedNames().contains("search"));
+      });
+  }
+
+  @Test
+  public void 필터_설정() {
+    WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(WebUtilsAutoConfiguration.class));
+
+    webContextRunner.run(context -> assertFalse(context.containsBean("queryParameterFilter")));
+    webContextRunner.withPropertyValues("syaku.web.query-parameter-filter=true")
+      .run(context -> assertTrue(context.containsBean("queryParameterFilter")));
+    contextRunner.withPropertyValues("syaku.web.query-parameter-filter=true")
+      .run(context -> assertFalse(context.containsBean("queryParameterFilter")));
+  }
+
+  @Test
+  public void 바이트_크기_설정() {
+    contextRunner.withUserConfiguration(UploadConfiguration.class)
+      .withPropertyValues("upload.max-size=10MB", "upload.max-total-size=1.5 GB")
+      .run(context -> {
+        UploadProperties properties = context.getBean(UploadProperties.class);
+        assertEquals(properties.getMaxSize().toBytes(), 10485760L);
+        assertEquals(properties.getMaxTotalSize().toBytes(), 1610612736L);
+        assertEquals(properties.getMaxFileSize(), ByteSize.ofBytes(1024));
+      });
+  }
+
+  @Configuration
+  @EnableConfigurationProperties(UploadProperties.class)
+  static class UploadConfiguration {
+  }
+
+  @Getter
+  @Setter
+  @ConfigurationProperties(prefix = "upload")
+  static class UploadProperties {
+    private ByteSize maxSize;
+    private ByteSize maxTotalSize;
+    private ByteSize maxFileSize = ByteSize.ofBytes(1024);
+  }
+}
@@ -0,0 +1,126 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+/**
+ * 렌더링 실행기의 대기열이 가득 찬 경우
+ *
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(AsyncRenderingSaturationControllerTest.class)
+@TestPropertySource(properties = "syaku.web.freemarker.async.enabled=true")
+public class AsyncRenderingSaturationTest {
+  private static final List<RequestAttributes> ATTRIBUTES = new ArrayList<>();
+
+  @TestConfiguration
+  static class SaturationConfiguration implements WebMvcConfigurer {
+    @Bean(name = FreeMarkerAsyncRenderingAutoConfiguration.EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService freeMarkerRenderingExecutor() {
+      return RenderingExecutors.newThreadPool(1, 1);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+      registry.addInterceptor(new HandlerInterceptorAdapter() {
+        @Override
+        public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+          ModelAndView modelAndView) {
+          ATTRIBUTES.add(RequestContextHolder.getRequestAttributes());
+          if (modelAndView != null) {
+            modelAndView.addObject("footer", "footer");
+          }
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+          Exception ex) {
+          ATTRIBUTES.add(RequestContextHolder.getRequestAttributes());
+        }
+      });
+    }
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ExecutorService freeMarkerRenderingExecutor;
+
+  @Test
+  public void 대기열_가득참_테스트() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // 하나뿐인 렌더링 스레드를 막고 대기열을 채운다.
+      freeMarkerRenderingExecutor.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      freeMarkerRenderingExecutor.execute(() -> { });
+
+      // 비동기를 시작하지 않고 요청 스레드에서 렌더링하며 postHandle 에서 추가한 값도 사용한다.
+      String thread = Thread.currentThread().getName();
+      mockMvc.perform(get("/saturation"))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(content().string(thread + "|footer"));
+
+      // 요청 스레드의 RequestContextHolder 를 지우지 않는다.
+      assertEquals(ATTRIBUTES.size(), 2);
+      for (RequestAttributes attributes : ATTRIBUTES) {
+        assertNotNull(attributes);
+      }
+    } finally {
+      release.countDown();
+    }
+  }
+}
+
+@Controller
+class AsyncRenderingSaturationControllerTest {
+  @GetMapping("saturation")
+  public String saturation(Model model) {
+    model.addAttribute("renderer", new Renderer());
+    return "asyncSaturation";
+  }
+
+  public static class Renderer {
+    public String getThread() {
+      return Thread.currentThread().getName();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(FragmentCacheControllerTest.class)
+public class FragmentCacheDirectiveTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private FragmentCache fragmentCache;
+
+  @Test
+  public void 경로_키_테스트() throws Exception {
+    // 같은 뷰, 같은 파라메터라도 경로 변수가 다르면 다른 결과를 저장한다.
+    mockMvc.perform(get("/board/1?page=1"))
+      .andExpect(content().string("1:1"));
+    mockMvc.perform(get("/board/2?page=1"))
+      .andExpect(content().string("2:2"));
+    mockMvc.perform(get("/board/1?page=1"))
+      .andExpect(content().string("1:1"));
+
+    assertEquals(fragmentCache.size(), 2);
+    assertEquals(fragmentCache.getHitCount(), 1L);
+  }
+}
+
+@Controller
+class FragmentCacheControllerTest {
+  private final Counter counter = new Counter();
+
+  @GetMapping("board/{id}")
+  public String board(@PathVariable String id, Model model) {
+    model.addAttribute("id", id);
+    model.addAttribute("counter", counter);
+    return "board";
+  }
+
+  public static class Counter {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public int getNext() {
+      return count.incrementAndGet();
+    }
+  }
+}
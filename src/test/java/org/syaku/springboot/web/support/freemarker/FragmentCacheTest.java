@@ -0,0 +1,152 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class FragmentCacheTest {
+  private final AtomicLong now = new AtomicLong();
+  private final FragmentCache cache = new FragmentCache(2, Duration.ofSeconds(10), now::get);
+
+  @Test
+  public void 크기_제한_테스트() throws Exception {
+    assertEquals(cache.get("a", () -> "A"), "A");
+    assertEquals(cache.get("b", () -> "B"), "B");
+    assertEquals(cache.get("a", () -> "A2"), "A");
+    assertEquals(cache.get("c", () -> "C"), "C");
+
+    // 가장 오래 사용하지 않은 b 를 버린다.
+    assertEquals(cache.get("b", () -> "B2"), "B2");
+    assertEquals(cache.size(), 2);
+    assertEquals(cache.getHitCount(), 1L);
+    assertEquals(cache.getMissCount(), 4L);
+    assertEquals(cache.getEvictionCount(), 2L);
+
+    cache.invalidate("b");
+    assertEquals(cache.size(), 1);
+  }
+
+  @Test
+  public void 유효_시간_테스트() throws Exception {
+    FragmentCache cache = new FragmentCache(10, Duration.ofSeconds(10), now::get);
+    assertEquals(cache.get("a", () -> "A"), "A");
+    assertEquals(cache.get("b", Duration.ofSeconds(30), () -> "B"), "B");
+    assertEquals(cache.get("c", Duration.ZERO, () -> "C"), "C");
+    assertEquals(cache.get("c", () -> "C2"), "C2");
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertEquals(cache.get("a", () -> "A2"), "A2");
+    assertEquals(cache.get("b", () -> "B2"), "B");
+  }
+
+  @Test
+  public void 동시_요청_테스트() throws Exception {
+    FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+    CountDownLatch rendering = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger renders = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<String> first = executor.submit(() -> cache.get("list", () -> {
+        renders.incrementAndGet();
+        rendering.countDown();
+        release.await();
+        return "목록";
+      }));
+      rendering.await();
+
+      Future<?>[] waiting = new Future<?>[3];
+      for (int i = 0; i < waiting.length; i++) {
+        waiting[i] = executor.submit(() -> cache.get("list", () -> {
+          renders.incrementAndGet();
+          return "다시";
+        }));
+      }
+      while (cache.getCollapsedCount() < waiting.length) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+
+      assertEquals(first.get(), "목록");
+      for (Future<?> future : waiting) {
+        assertEquals(future.get(), "목록");
+      }
+      assertEquals(renders.get(), 1);
+      assertEquals(cache.getMissCount(), 1L);
+      assertEquals(cache.getHitCount(), 3L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void 대기_시간_테스트() throws Exception {
+    FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1), Duration.ofMillis(50));
+    CountDownLatch rendering = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> first = executor.submit(() -> cache.get("list", () -> {
+        rendering.countDown();
+        release.await();
+        return "목록";
+      }));
+      rendering.await();
+
+      // 멈춘 렌더링을 계속 기다리지 않고 직접 렌더링한다. 결과는 저장하지 않는다.
+      assertEquals(cache.get("list", () -> "직접"), "직접");
+      assertEquals(cache.getBypassCount(), 1L);
+      assertEquals(cache.getCollapsedCount(), 0L);
+
+      release.countDown();
+      assertEquals(first.get(), "목록");
+      assertEquals(cache.get("list", () -> "다시"), "목록");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void 재귀_테스트() throws Exception {
+    FragmentCache cache = new FragmentCache(10, Duration.ofMinutes(1));
+    AtomicInteger depth = new AtomicInteger();
+
+    // 같은 스레드가 렌더링 중인 키를 다시 찾으면 기다리지 않고 직접 렌더링한다.
+    String value = cache.get("tree", () -> depth.incrementAndGet() < 3
+      ? "[" + cache.get("tree", () -> depth.incrementAndGet() + "") + "]" : "leaf");
+    assertEquals(value, "[2]");
+    assertEquals(cache.getBypassCount(), 1L);
+    assertEquals(cache.get("tree", () -> "다시"), "[2]");
+  }
+
+  @Test
+  public void 오류_테스트() throws Exception {
+    try {
+      cache.get("a", () -> {
+        throw new IOException("render");
+      });
+      fail();
+    } catch (IOException e) {
+      assertEquals(e.getMessage(), "render");
+    }
+    assertEquals(cache.size(), 0);
+    assertEquals(cache.get("a", () -> "A"), "A");
+  }
+}
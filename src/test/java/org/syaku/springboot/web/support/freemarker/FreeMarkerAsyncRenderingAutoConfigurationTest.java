@@ -0,0 +1,210 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.ExecutorService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(AsyncRenderingControllerTest.class)
+@TestPropertySource(properties = "syaku.web.freemarker.async.enabled=true")
+public class FreeMarkerAsyncRenderingAutoConfigurationTest {
+  static final ThreadLocal<String> CONTEXT = new ThreadLocal<>();
+
+  @TestConfiguration
+  static class InterceptorConfiguration implements WebMvcConfigurer {
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+      registry.addInterceptor(new HandlerInterceptorAdapter() {
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+          CONTEXT.set("user");
+          return true;
+        }
+
+        @Override
+        public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+          ModelAndView modelAndView) {
+          if (modelAndView != null) {
+            modelAndView.addObject("footer", "footer");
+          }
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+          Object handler) {
+          CONTEXT.remove();
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+          Exception ex) {
+          CONTEXT.remove();
+        }
+      }).addPathPatterns("/async/interceptor");
+    }
+
+    @Bean
+    public TaskDecorator taskDecorator() {
+      return task -> {
+        String context = CONTEXT.get();
+        return () -> {
+          // 호출한 스레드에서 실행될 수도 있으므로 이전 값으로 되돌린다.
+          String previous = CONTEXT.get();
+          CONTEXT.set(context);
+          try {
+            task.run();
+          } finally {
+            CONTEXT.set(previous);
+          }
+        };
+      };
+    }
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private RequestMappingHandlerAdapter handlerAdapter;
+
+  @Test
+  public void 비동기_렌더링_테스트() throws Exception {
+    assertTrue(handlerAdapter.getReturnValueHandlers().get(0) instanceof AsyncRenderingReturnValueHandler);
+
+    MvcResult result = mockMvc.perform(get("/async?page=3"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    String prefix = RenderingExecutors.isVirtualThreadSupported() ? "|" : "freemarker-render-";
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType("text/html;charset=UTF-8"))
+      .andExpect(content().string(startsWith(prefix)));
+    assertTrue(result.getResponse().getContentAsString().endsWith("|3"));
+
+    result = mockMvc.perform(get("/async/model"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isNotFound());
+    assertTrue(result.getResponse().getContentAsString().endsWith("|none"));
+  }
+
+  @Test
+  public void 인터셉터_테스트() throws Exception {
+    MvcResult result = mockMvc.perform(get("/async/interceptor"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    // TaskDecorator 로 옮긴 값은 보이지만 postHandle 에서 추가한 모델 값은 렌더링이 끝난 뒤라 보이지 않는다.
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().string("user|none"));
+  }
+
+  @Test
+  public void 동기_렌더링_테스트() throws Exception {
+    mockMvc.perform(get("/async/redirect"))
+      .andExpect(request().asyncNotStarted())
+      .andExpect(redirectedUrl("/async"));
+
+    mockMvc.perform(get("/async/body"))
+      .andExpect(request().asyncNotStarted())
+      .andExpect(content().string("body"));
+  }
+
+  @Test
+  public void 실행기_테스트() throws Exception {
+    ExecutorService executor = RenderingExecutors.newThreadPool(1, 1);
+    try {
+      String[] thread = new String[1];
+      executor.submit(() -> thread[0] = Thread.currentThread().getName()).get();
+      assertEquals(thread[0], "freemarker-render-1");
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
+
+@Controller
+class AsyncRenderingControllerTest {
+  @GetMapping("async")
+  public String render(String page, Model model) {
+    model.addAttribute("renderer", new Renderer());
+    model.addAttribute("page", page);
+    return "asyncRendering";
+  }
+
+  @GetMapping("async/model")
+  public ModelAndView model() {
+    ModelAndView modelAndView = new ModelAndView("asyncRendering", HttpStatus.NOT_FOUND);
+    modelAndView.addObject("renderer", new Renderer());
+    modelAndView.addObject("page", "none");
+    return modelAndView;
+  }
+
+  @GetMapping("async/interceptor")
+  public String interceptor(Model model) {
+    model.addAttribute("renderer", new Renderer());
+    return "asyncInterceptor";
+  }
+
+  @GetMapping("async/redirect")
+  public String redirect() {
+    return "redirect:/async";
+  }
+
+  @GetMapping("async/body")
+  @ResponseBody
+  public String body() {
+    return "body";
+  }
+
+  public static class Renderer {
+    public String getThread() {
+      return Thread.currentThread().getName();
+    }
+
+    public String getContext() {
+      return FreeMarkerAsyncRenderingAutoConfigurationTest.CONTEXT.get();
+    }
+  }
+}
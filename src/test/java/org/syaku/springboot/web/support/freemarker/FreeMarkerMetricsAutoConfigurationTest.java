@@ -0,0 +1,153 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
+
+import freemarker.template.Configuration;
+import freemarker.template.TemplateMethodModelEx;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(FreeMarkerMetricsControllerTest.class)
+public class FreeMarkerMetricsAutoConfigurationTest {
+
+  @TestConfiguration
+  static class MetricsConfiguration {
+    @Bean
+    public MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private FreeMarkerConfigurer freeMarkerConfigurer;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  @PostConstruct
+  public void setup() {
+    Configuration configuration = freeMarkerConfigurer.getConfiguration();
+    configuration.setSharedVariable("parameterUtils", new ParameterUtilsTemplateModel());
+  }
+
+  @Test
+  public void 메트릭_테스트() throws Exception {
+    assertTrue(freeMarkerConfigurer.getConfiguration().getSharedVariable("parameterUtils")
+      instanceof MeteredTemplateMethodModel);
+
+    mockMvc.perform(get("/metrics?page=1&search=choi"))
+      .andExpect(status().isOk())
+      .andExpect(content().string("page=1&search=choi&mode=save\npage=1&mode=save"));
+
+    Timer merge = registry.get(MeteredTemplateMethodModel.CALLS)
+      .tags("method", "parameterUtils", "mode", "merge", "template", "parameterUtils.ftl").timer();
+    Timer pick = registry.get(MeteredTemplateMethodModel.CALLS)
+      .tags("method", "parameterUtils", "mode", "pick", "template", "parameterUtils.ftl").timer();
+    assertEquals(merge.count(), 1L);
+    assertEquals(pick.count(), 1L);
+    assertEquals(registry.get(MeteredTemplateMethodModel.CALLS).tags("template", "parameterUtils.ftl").timers().size(), 2);
+    // 할당량은 기본으로 기록하지 않는다.
+    assertNull(registry.find(MeteredTemplateMethodModel.ALLOCATION).meter());
+  }
+
+  @Test
+  public void 조건_테스트() {
+    WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(FreeMarkerMetricsAutoConfiguration.class, FreeMarkerAutoConfiguration.class));
+
+    // MeterRegistry 빈이 없으면 스프링 부트의 설정을 사용한다.
+    contextRunner.run(context ->
+      assertFalse(context.getBean(FreeMarkerConfigurer.class) instanceof MeteredFreeMarkerConfigurer));
+
+    contextRunner.withUserConfiguration(MetricsConfiguration.class)
+      .withPropertyValues("syaku.web.freemarker.metrics.allocation=true", "spring.freemarker.charset=EUC-KR")
+      .run(context -> {
+        FreeMarkerConfigurer configurer = context.getBean(FreeMarkerConfigurer.class);
+        assertTrue(configurer instanceof MeteredFreeMarkerConfigurer);
+        assertEquals(configurer.getConfiguration().getDefaultEncoding(), "EUC-KR");
+
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        configurer.getConfiguration().setSharedVariable("echo", (TemplateMethodModelEx) arguments -> "echo");
+        ((TemplateMethodModelEx) configurer.getConfiguration().getSharedVariable("echo")).exec(Collections.emptyList());
+        assertEquals(registry.get(MeteredTemplateMethodModel.CALLS).tags("method", "echo").timer().count(), 1L);
+        assertNotNull(registry.find(MeteredTemplateMethodModel.ALLOCATION).tags("method", "echo").summary());
+      });
+  }
+
+  @Test
+  public void 캐시_메트릭_테스트() throws Exception {
+    mockMvc.perform(get("/fragment?page=1&search=a"))
+      .andExpect(content().string("1|2"));
+    mockMvc.perform(get("/fragment?search=a&page=1"))
+      .andExpect(content().string("1|2"));
+    mockMvc.perform(get("/fragment?page=1&search=b"))
+      .andExpect(content().string("3|2"));
+
+    assertEquals(registry.get("cache.gets").tags("cache", FragmentCacheMetrics.CACHE_NAME, "result", "hit")
+      .functionCounter().count(), 3.0, 0);
+    assertEquals(registry.get("cache.gets").tags("cache", FragmentCacheMetrics.CACHE_NAME, "result", "miss")
+      .functionCounter().count(), 3.0, 0);
+    assertEquals(registry.get("cache.size").tags("cache", FragmentCacheMetrics.CACHE_NAME).gauge().value(), 3.0, 0);
+  }
+}
+
+@Controller
+class FreeMarkerMetricsControllerTest {
+  private final Counter counter = new Counter();
+
+  @GetMapping("metrics")
+  public String parameterUtils() {
+    return "parameterUtils";
+  }
+
+  @GetMapping("fragment")
+  public String fragmentCache(Model model) {
+    model.addAttribute("counter", counter);
+    return "fragmentCache";
+  }
+
+  public static class Counter {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public int getNext() {
+      return count.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.freemarker.FreeMarkerAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import freemarker.cache.MruCacheStorage;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class FreeMarkerTemplateModelAutoConfigurationTest {
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+    .withConfiguration(AutoConfigurations.of(FreeMarkerAutoConfiguration.class,
+      FreeMarkerTemplateModelAutoConfiguration.class));
+
+  private String render(Configuration configuration, String source, Map<String, Object> model) throws Exception {
+    StringWriter out = new StringWriter();
+    new Template("test", source, configuration).process(model, out);
+    return out.toString();
+  }
+
+  @Test
+  public void 공용변수_테스트() {
+    contextRunner.run(context -> {
+      Configuration configuration = context.getBean(Configuration.class);
+      assertSame(configuration.getSharedVariable("parameterUtils"), context.getBean(ParameterUtilsTemplateModel.class));
+      assertSame(configuration.getSharedVariable("stringUtils"), context.getBean(StringUtilsTemplateModel.class));
+
+      Map<String, Object> model = new LinkedHashMap<>();
+      model.put("size", 1536);
+      model.put("post", new LinkedHashMap<>(model));
+      model.put("ids", Arrays.asList(1, 2));
+      model.put("subject", "</script>");
+
+      assertEquals(render(configuration, "${unitConverter(size)}|${unitConverter(size, \"B\")}", model),
+        "1.5 KB|1536 B");
+      assertEquals(render(configuration, "${jsonUtils(post)}${jsonUtils(ids)}", model), "{\"size\":1536}[1,2]");
+      assertEquals(render(configuration, "<script>var s = ${jsonUtils(subject)};</script>", model),
+        "<script>var s = \"\\u003C/script\\u003E\";</script>");
+      assertEquals(render(configuration, "${stringUtils(\"abbreviate\", \"가나다라\", 2, \"..\")}", model), "가나..");
+
+      assertEquals(configuration.getTemplateUpdateDelayMilliseconds(), 60000L);
+      assertTrue(configuration.getCacheStorage() instanceof MruCacheStorage);
+      assertEquals(((MruCacheStorage) configuration.getCacheStorage()).getStrongSizeLimit(), 256);
+    });
+  }
+
+  @Test
+  public void 설정_테스트() {
+    contextRunner.withPropertyValues("spring.freemarker.settings.template_update_delay=0",
+      "syaku.web.freemarker.cache-strong-size=10").run(context -> {
+      Configuration configuration = context.getBean(Configuration.class);
+      assertEquals(configuration.getTemplateUpdateDelayMilliseconds(), 0L);
+      assertEquals(((MruCacheStorage) configuration.getCacheStorage()).getStrongSizeLimit(), 10);
+    });
+
+    contextRunner.withPropertyValues("syaku.web.freemarker.template-models=false").run(context ->
+      assertNull(context.getBean(Configuration.class).getSharedVariable("parameterUtils")));
+  }
+}
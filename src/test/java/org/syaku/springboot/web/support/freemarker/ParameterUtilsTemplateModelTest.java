@@ -0,0 +1,142 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.syaku.springboot.web.utils.ParameterUtils;
+import org.syaku.springboot.web.utils.QueryTemplate;
+import org.syaku.springboot.web.utils.UrlCodec;
+
+import freemarker.ext.servlet.HttpRequestHashModel;
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapperBuilder;
+import freemarker.template.SimpleNumber;
+import freemarker.template.SimpleScalar;
+import freemarker.template.SimpleSequence;
+import freemarker.template.TemplateModelException;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class ParameterUtilsTemplateModelTest {
+  private final AtomicInteger reads = new AtomicInteger();
+  private final ParameterUtilsTemplateModel model = new ParameterUtilsTemplateModel();
+
+  private HttpRequestHashModel request(String... parameters) {
+    MockHttpServletRequest request = new MockHttpServletRequest() {
+      @Override
+      public Map<String, String[]> getParameterMap() {
+        reads.incrementAndGet();
+        return super.getParameterMap();
+      }
+    };
+    for (int i = 0; i < parameters.length; i += 2) {
+      request.addParameter(parameters[i], parameters[i + 1]);
+    }
+    return new HttpRequestHashModel(request,
+      new DefaultObjectWrapperBuilder(Configuration.VERSION_2_3_28).build());
+  }
+
+  private Object exec(HttpRequestHashModel request, Object... arguments) throws Exception {
+    List<Object> list = new ArrayList<>();
+    list.add(request);
+    for (Object argument : arguments) {
+      list.add(argument instanceof String ? new SimpleScalar((String) argument)
+        : argument instanceof Integer ? new SimpleNumber((Integer) argument) : argument);
+    }
+    return model.exec(list);
+  }
+
+  @Test
+  public void 요청_캐시_테스트() throws Exception {
+    HttpRequestHashModel request = request("page", "1", "search", "choi");
+
+    Object merge = exec(request, "merge", "mode=save");
+    assertEquals(merge, "page=1&search=choi&mode=save");
+    // 같은 요청의 같은 (mode, 구문) 은 저장해둔 결과를 반환하고 파라메터 맵을 다시 읽지 않는다.
+    assertSame(exec(request, "merge", "mode=save"), merge);
+    assertEquals(exec(request, "pick", "page=&mode=save"), "page=1&mode=save");
+    assertSame(exec(request, "pick", "page=&mode=save"), exec(request, "pick", "page=&mode=save"));
+
+    Object range = exec(request, "mergeRange", "", "page", 1, 3);
+    assertEquals(range, Arrays.asList("page=1&search=choi", "page=2&search=choi", "page=3&search=choi"));
+    assertSame(exec(request, "mergeRange", "", "page", 1, 3), range);
+    assertEquals(reads.get(), 1);
+
+    // 다른 요청은 다시 계산한다.
+    HttpRequestHashModel other = request("page", "1", "search", "choi");
+    Object otherMerge = exec(other, "merge", "mode=save");
+    assertEquals(otherMerge, merge);
+    assertNotSame(otherMerge, merge);
+    assertEquals(reads.get(), 2);
+  }
+
+  @Test
+  public void 범위_제한_테스트() throws Exception {
+    ParameterUtilsTemplateModel model = new ParameterUtilsTemplateModel(16, null, 3);
+    assertEquals(model.exec(Arrays.asList(request(), new SimpleScalar("mergeRange"), new SimpleScalar(""),
+      new SimpleScalar("page"), new SimpleNumber(1), new SimpleNumber(3))).toString(), "[page=1, page=2, page=3]");
+
+    // 요청에서 계산한 페이지 수가 커도 링크를 끝없이 만들지 않는다.
+    for (List<Object> arguments : Arrays.<List<Object>>asList(
+      Arrays.asList(request(), new SimpleScalar("mergeRange"), new SimpleScalar(""), new SimpleScalar("page"),
+        new SimpleNumber(1), new SimpleNumber(Integer.MAX_VALUE)),
+      Arrays.asList(request(), new SimpleScalar("mergeRange"), new SimpleScalar(""), new SimpleScalar("sort"),
+        new SimpleSequence(Arrays.asList("a", "b", "c", "d"), null)))) {
+      try {
+        model.exec(arguments);
+        fail();
+      } catch (TemplateModelException e) {
+        assertTrue(e.getMessage().contains("maxRangeSize 3"));
+      }
+    }
+
+    try {
+      ParameterUtils.mergeAll(new HashMap<>(), "page", 0, QueryTemplate.MAX_RANGE_SIZE);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // QueryTemplate 도 범위를 제한한다.
+    }
+  }
+
+  @Test
+  public void 구문_캐시_테스트() throws Exception {
+    ParameterUtilsTemplateModel model = new ParameterUtilsTemplateModel(2);
+    for (String query : new String[]{ "a=1", "a=2", "a=1", "a=3" }) {
+      assertEquals(model.exec(Arrays.asList(request(), new SimpleScalar("merge"), new SimpleScalar(query))), query);
+    }
+
+    // 가득 차면 가장 오래 사용하지 않은 구문을 버린다.
+    assertNotNull(model.cached("a=1"));
+    assertNull(model.cached("a=2"));
+    assertNotNull(model.cached("a=3"));
+  }
+
+  @Test
+  public void 기본_코덱_테스트() throws Exception {
+    assertEquals(exec(request(), "merge", "search=최"), "search=%EC%B5%9C");
+    try {
+      // 캐시한 구문도 바뀐 기본 코덱을 사용한다.
+      UrlCodec.setDefault(UrlCodec.of(Charset.forName("EUC-KR")));
+      assertEquals(exec(request(), "merge", "search=최"), "search=%C3%D6");
+    } finally {
+      UrlCodec.setDefault(null);
+    }
+  }
+}
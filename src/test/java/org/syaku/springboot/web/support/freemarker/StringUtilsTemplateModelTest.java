@@ -0,0 +1,50 @@
+package org.syaku.springboot.web.support.freemarker;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class StringUtilsTemplateModelTest {
+
+  private String render(String source, Map<String, Object> model) throws Exception {
+    StringTemplateLoader loader = new StringTemplateLoader();
+    loader.putTemplate("test", source);
+
+    Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+    configuration.setTemplateLoader(loader);
+    configuration.setSharedVariable("stringUtils", new StringUtilsTemplateModel());
+
+    StringWriter out = new StringWriter();
+    configuration.getTemplate("test").process(model, out);
+    return out.toString();
+  }
+
+  @Test
+  public void 템플릿_테스트() throws Exception {
+    Map<String, Object> model = new HashMap<>();
+    model.put("subject", "가나다라마바사");
+    model.put("subjects", Arrays.asList("가나다라마바사", "가나", "abcdefg"));
+    model.put("posts", Arrays.asList(
+      Collections.singletonMap("subject", "가나다라마바사"), Collections.singletonMap("subject", "가나")));
+
+    assertEquals(render("${stringUtils(\"abbreviate\", subject, 3, \"...\")}", model), "가나다...");
+    assertEquals(render("${stringUtils(\"abbreviateBytes\", subject, 9, \"\")}", model), "가나다");
+    assertEquals(render("${stringUtils(\"abbreviate\", subjects, 3, \"...\")?join(\",\")}", model),
+      "가나다...,가나,abc...");
+    assertEquals(render("<#assign subjects = stringUtils(\"abbreviate\", posts, 3, \".\", \"subject\")>"
+      + "<#list posts as post>${subjects[post?index]}|</#list>", model), "가나다.|가나|");
+  }
+}
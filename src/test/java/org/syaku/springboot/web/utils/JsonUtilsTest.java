@@ -0,0 +1,192 @@
+package org.syaku.springboot.web.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class JsonUtilsTest {
+
+  @Getter
+  @Setter
+  public static class Post {
+    private long id;
+    private String subject;
+  }
+
+  @Test
+  public void 쓰기_테스트() throws IOException {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("subject", "제목");
+    json.put("ids", Arrays.asList(1, 2));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonUtils.write(json, out);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), JsonUtils.toString(json));
+
+    StringWriter writer = new StringWriter();
+    JsonUtils.write(json, writer);
+    assertEquals(writer.toString(), "{\"subject\":\"제목\",\"ids\":[1,2]}");
+  }
+
+  @Test
+  public void 배열_쓰기_테스트() throws IOException {
+    List<Post> posts = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      Post post = new Post();
+      post.setId(i);
+      post.setSubject("제목" + i);
+      posts.add(post);
+    }
+
+    int[] flushes = new int[1];
+    boolean[] closed = new boolean[1];
+    ByteArrayOutputStream out = new ByteArrayOutputStream() {
+      @Override
+      public void flush() {
+        flushes[0]++;
+      }
+
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+
+    assertEquals(JsonUtils.writeAll(posts.iterator(), out, 2), 5L);
+    assertEquals(JsonUtils.toList(new String(out.toByteArray(), StandardCharsets.UTF_8), Post.class).size(), 5);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), JsonUtils.toString(posts));
+    // 첫 항목, 2, 4 번째 항목 다음과 배열을 닫을 때 flush 한다.
+    assertEquals(flushes[0], 4);
+    assertFalse(closed[0]);
+
+    out.reset();
+    assertEquals(JsonUtils.writeAll(Collections.emptyIterator(), out, 1), 0L);
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), "[]");
+  }
+
+  @Test
+  public void 스크립트_쓰기_테스트() throws IOException {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("t", "</script><script>alert('1')</script>&\u2028");
+
+    String script = JsonUtils.toScriptString(json);
+    assertEquals(script, "{\"t\":\"\\u003C/script\\u003E\\u003Cscript\\u003Ealert(\\u00271\\u0027)"
+      + "\\u003C/script\\u003E\\u0026\\u2028\"}");
+    assertEquals(JsonUtils.toMap(script), json);
+    assertEquals(JsonUtils.toScriptString(null), "null");
+  }
+
+  @Test
+  public void 읽기_테스트() throws IOException {
+    String json = "{\"subject\":\"제목\",\"ids\":[1,2]}";
+    Map<String, Object> map = JsonUtils.toMap(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    assertEquals(map.get("subject"), "제목");
+    assertEquals(map.get("ids"), Arrays.asList(1, 2));
+    assertEquals(JsonUtils.toMap(new StringReader(json)), map);
+
+    List<Object> list = JsonUtils.toList(new StringReader("[1,\"a\"]"));
+    assertEquals(list, Arrays.asList(1, "a"));
+  }
+
+  @Test
+  public void 스트림_테스트() throws IOException {
+    String json = "[{\"id\":1,\"subject\":\"하나\"},{\"id\":2,\"subject\":\"둘\"},{\"id\":3,\"subject\":\"셋\"}]";
+    InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    try (Stream<Post> posts = JsonUtils.stream(in, Post.class)) {
+      assertEquals(posts.map(Post::getSubject).collect(Collectors.toList()), Arrays.asList("하나", "둘", "셋"));
+    }
+
+    try (JsonUtils.ArrayIterator<Post> iterator = JsonUtils.iterator(new StringReader(json), Post.class)) {
+      assertEquals(iterator.next().getId(), 1L);
+      assertEquals(iterator.next().getId(), 2L);
+      assertEquals(iterator.next().getId(), 3L);
+      assertFalse(iterator.hasNext());
+      try {
+        iterator.next();
+        fail();
+      } catch (NoSuchElementException e) {
+        // expected
+      }
+    }
+
+    try (Stream<Integer> empty = JsonUtils.stream(new StringReader(" [ ] "), Integer.class)) {
+      assertEquals(empty.collect(Collectors.toList()), Collections.emptyList());
+    }
+
+    try {
+      JsonUtils.stream(new StringReader("{\"id\":1}"), Post.class);
+      fail();
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void 타입_테스트() throws IOException {
+    Post post = JsonUtils.toObject("{\"id\":1,\"subject\":\"하나\"}", Post.class);
+    assertEquals(post.getId(), 1L);
+    assertEquals(post.getSubject(), "하나");
+
+    List<Post> posts = JsonUtils.toList("[{\"id\":1},{\"id\":2}]", Post.class);
+    assertEquals(posts.get(1).getClass(), Post.class);
+    assertEquals(posts.get(1).getId(), 2L);
+
+    Map<String, Post> postMap = JsonUtils.toMap("{\"b\":{\"id\":2},\"a\":{\"id\":1}}", Post.class);
+    assertEquals(new ArrayList<>(postMap.keySet()), Arrays.asList("b", "a"));
+    assertEquals(postMap.get("a").getId(), 1L);
+
+    List<Object> tree = JsonUtils.toList("[{\"id\":1}]");
+    assertEquals(tree.get(0), Collections.singletonMap("id", 1));
+
+    assertEquals(JsonUtils.toString(post), "{\"id\":1,\"subject\":\"하나\"}");
+    assertEquals(JsonUtils.toString(null), "null");
+  }
+
+  @Test
+  public void 바이너리_테스트() throws IOException {
+    Post post = new Post();
+    post.setId(1);
+    post.setSubject("스프링 부트 게시판 제목");
+
+    byte[] smile = JsonUtils.toBytes(post, JsonUtils.Format.SMILE);
+    byte[] json = JsonUtils.toBytes(post, JsonUtils.Format.JSON);
+    assertEquals(new String(json, StandardCharsets.UTF_8), JsonUtils.toString(post));
+    assertEquals(new String(smile, 0, 2, StandardCharsets.US_ASCII), ":)");
+    assertTrue(smile.length < json.length);
+
+    assertEquals(JsonUtils.toObject(smile, Post.class).getSubject(), post.getSubject());
+    assertEquals(JsonUtils.toObject(json, Post.class).getSubject(), post.getSubject());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonUtils.write(post, out, JsonUtils.Format.SMILE);
+    Post read = JsonUtils.toObject(new ByteArrayInputStream(out.toByteArray()), Post.class, JsonUtils.Format.SMILE);
+    assertEquals(read.getId(), 1L);
+  }
+}
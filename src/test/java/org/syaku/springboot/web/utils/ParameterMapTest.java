@@ -0,0 +1,126 @@
+package org.syaku.springboot.web.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class ParameterMapTest {
+
+  @Test
+  public void 순서_테스트() {
+    ParameterMap map = new ParameterMap();
+    map.put("page", new String[]{"1"});
+    map.put("search", new String[]{"choi"});
+    map.put("mode", new String[]{"save"});
+    map.put("page", new String[]{"2"});
+
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("page", "search", "mode"));
+    assertArrayEquals(map.get("page"), new String[]{"2"});
+
+    assertArrayEquals(map.remove("search"), new String[]{"choi"});
+    assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("page", "mode"));
+    assertNull(map.get("search"));
+    assertEquals(map.size(), 2);
+  }
+
+  @Test
+  public void 해시_테스트() {
+    ParameterMap map = new ParameterMap();
+    Map<String, String[]> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 40; i++) {
+      String[] value = new String[]{ String.valueOf(i) };
+      map.put("field" + i, value);
+      expected.put("field" + i, value);
+    }
+
+    assertEquals(map, expected);
+    assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+    assertEquals(map.hashCode(), expected.hashCode());
+
+    for (int i = 0; i < 40; i += 2) {
+      map.remove("field" + i);
+      expected.remove("field" + i);
+    }
+    assertEquals(map, expected);
+    assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+
+    // 해시 테이블을 사용하지 않는 크기로 줄어든다.
+    while (map.size() > ParameterMap.HASH_THRESHOLD - 1) {
+      String key = map.keySet().iterator().next();
+      map.remove(key);
+      expected.remove(key);
+    }
+    assertEquals(map, expected);
+    assertArrayEquals(map.get("field39"), new String[]{"39"});
+  }
+
+  @Test
+  public void 덮어쓰기_테스트() {
+    Map<String, String[]> base = new LinkedHashMap<>();
+    base.put("page", new String[]{"1"});
+    base.put("search", new String[]{"choi"});
+
+    Map<String, String[]> overrides = new LinkedHashMap<>();
+    overrides.put("mode", new String[]{"save"});
+    overrides.put("page", new String[]{"2"});
+
+    ParameterMap overlay = ParameterMap.overlay(base, overrides);
+    assertEquals(overlay.size(), 3);
+    assertEquals(new ArrayList<>(overlay.keySet()), Arrays.asList("page", "search", "mode"));
+    assertArrayEquals(overlay.get("page"), new String[]{"2"});
+    assertArrayEquals(overlay.get("search"), new String[]{"choi"});
+    assertEquals(ParameterUtils.mapToString(overlay), "page=2&search=choi&mode=save");
+
+    // 수정하는 경우 원래 맵을 복사하므로 원래 맵은 바뀌지 않는다.
+    overlay.put("search", new String[]{"syaku"});
+    overlay.remove("mode");
+    assertEquals(ParameterUtils.mapToString(overlay), "page=2&search=syaku");
+    assertEquals(ParameterUtils.mapToString(base), "page=1&search=choi");
+
+    assertEquals(ParameterMap.overlay(null, overrides).size(), 2);
+    assertEquals(ParameterMap.overlay(base, null), base);
+  }
+
+  @Test
+  public void 덮어쓰기_순회_삭제() {
+    Map<String, String[]> base = new LinkedHashMap<>();
+    base.put("page", new String[]{"1"});
+    base.put("search", new String[]{"choi"});
+
+    Map<String, String[]> overrides = new LinkedHashMap<>();
+    overrides.put("mode", new String[]{"save"});
+    overrides.put("sort", new String[]{"name"});
+
+    ParameterMap overlay = ParameterMap.overlay(base, overrides);
+    List<String> keys = new ArrayList<>();
+    for (Iterator<String> iterator = overlay.keySet().iterator(); iterator.hasNext(); ) {
+      String key = iterator.next();
+      keys.add(key);
+      if (key.equals("search") || key.equals("sort")) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(keys, Arrays.asList("page", "search", "mode", "sort"));
+    assertEquals(new ArrayList<>(overlay.keySet()), Arrays.asList("page", "mode"));
+    assertEquals(base.size(), 2);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void 읽기_전용() {
+    ParameterUtils.parse("page=1", UrlCodec.getDefault()).put("page", new String[]{"2"});
+  }
+}
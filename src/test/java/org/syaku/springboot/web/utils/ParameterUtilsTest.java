@@ -1,8 +1,12 @@
 package org.syaku.springboot.web.utils;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -39,6 +43,51 @@ public class ParameterUtilsTest {
     assertEquals(ParameterUtils.stringToMap(""), Collections.emptyMap());
   }
 
+  @Test
+  public void 파싱_테스트() {
+    Map<String, String[]> actual = ParameterUtils.stringToMap("search=&page=1&search=choi&&mode&name=%EC%B5%9C+%EC%84%9D%EA%B7%A0");
+
+    assertArrayEquals(actual.keySet().toArray(), new String[]{"search", "page", "mode", "name"});
+    assertArrayEquals(actual.get("search"), new String[]{"choi"});
+    assertArrayEquals(actual.get("mode"), new String[]{});
+    assertArrayEquals(actual.get("name"), new String[]{"최 석균"});
+    assertArrayEquals(ParameterUtils.stringToMap("a=1=2&a=3").get("a"), new String[]{"1=2", "3"});
+  }
+
+  @Test
+  public void 쓰기_테스트() throws IOException {
+    params.put("page", new String[]{"1"});
+    params.put("search", new String[]{});
+    params.put("mode", new String[]{"save", "list"});
+
+    assertEquals(QueryStringWriter.length("?", params, false), "?page=1&mode=save&mode=list".length());
+    assertEquals(QueryStringWriter.write("?", params, true), "?page=1&search=&mode=save&mode=list");
+    assertEquals(QueryStringWriter.write("?", Collections.singletonMap("search", new String[]{}), false), "");
+
+    StringWriter out = new StringWriter();
+    ParameterUtils.merge(params, "&page=2", false, out);
+    ParameterUtils.pick(params, "&page=", out.append('|'));
+    assertEquals(out.toString(), "&page=2&mode=save&mode=list|&page=1");
+  }
+
+  @Test
+  public void 정규화_테스트() {
+    params.put("search", new String[]{"최", ""});
+    params.put("page", new String[]{"1"});
+    params.put("mode", new String[]{});
+    params.put("category", new String[]{"b", "a"});
+
+    Map<String, String[]> reversed = new LinkedHashMap<>();
+    reversed.put("page", new String[]{"1"});
+    reversed.put("category", new String[]{"b", "a"});
+    reversed.put("search", new String[]{"최"});
+
+    assertEquals(ParameterUtils.canonical(params), "category=b&category=a&page=1&search=%EC%B5%9C");
+    assertEquals(ParameterUtils.canonical(reversed), ParameterUtils.canonical(params));
+    assertEquals(ParameterUtils.canonical(params, Arrays.asList("search", "page")), "page=1&search=%EC%B5%9C");
+    assertEquals(ParameterUtils.canonical(Collections.emptyMap()), "");
+  }
+
   @Test
   public void 합집합_테스트() {
     // union test
@@ -99,4 +148,57 @@ public class ParameterUtilsTest {
     assertEquals(ParameterUtils.pick(null, "?"), "");
     assertEquals(ParameterUtils.pick(null, "&"), "");
   }
+
+  @Test
+  public void 구문_테스트() throws IOException {
+    params.put("page", new String[]{"1"});
+    params.put("search", new String[]{"choi"});
+
+    QueryTemplate template = ParameterUtils.compile("?page=&mode=save&search=");
+    assertEquals(template.getPrefix(), "?");
+    assertEquals(template.getPickNames(), Arrays.asList("page", "search"));
+
+    assertEquals(template.merge(params), "?mode=save");
+    assertEquals(template.merge(params, true), "?page=&search=&mode=save");
+    assertEquals(template.pick(params), "?page=1&mode=save&search=choi");
+    assertEquals(template.pick(null), "?mode=save");
+    assertEquals(template.merge(params, false, new StringBuilder("/list")).toString(), "/list?mode=save");
+    assertEquals(ParameterUtils.compile("&").merge(params), "&page=1&search=choi");
+  }
+
+  @Test
+  public void 인코딩_테스트() {
+    params.put("search", new String[]{"최석균", "a&b"});
+
+    assertEquals(ParameterUtils.merge(params, "mode=save+all"), "search=%EC%B5%9C%EC%84%9D%EA%B7%A0&search=a%26b&mode=save+all");
+    assertEquals(ParameterUtils.pick(params, "search="), "search=%EC%B5%9C%EC%84%9D%EA%B7%A0&search=a%26b");
+  }
+
+  @Test
+  public void 범위_합치기_테스트() {
+    params.put("page", new String[]{"1"});
+    params.put("search", new String[]{"최석균"});
+    params.put("mode", new String[]{"list"});
+
+    assertEquals(ParameterUtils.mergeAll(params, "page", 1, 3),
+      Arrays.asList(ParameterUtils.merge(params, "page=1"), ParameterUtils.merge(params, "page=2"),
+        ParameterUtils.merge(params, "page=3")));
+    assertEquals(ParameterUtils.mergeAll(params, "page", 1, 2).get(1), "page=2&search=%EC%B5%9C%EC%84%9D%EA%B7%A0&mode=list");
+    assertEquals(ParameterUtils.mergeAll(params, "page", 2, 1), Collections.emptyList());
+
+    // 대상 파라메터 맵에 없는 이름은 뒤에 추가하고, 빈값은 제거한다.
+    assertEquals(ParameterUtils.mergeAll(params, "sort", Arrays.asList("name", "a&b", "")),
+      Arrays.asList(ParameterUtils.merge(params, "sort=name"), ParameterUtils.merge(params, "sort=a%26b"),
+        ParameterUtils.merge(params, "sort=")));
+    assertEquals(ParameterUtils.mergeAll(params, "search", Collections.singletonList("")),
+      Collections.singletonList("page=1&mode=list"));
+
+    QueryTemplate template = ParameterUtils.compile("?mode=save&page=");
+    assertEquals(template.mergeAll(params, "page", 1, 2), Arrays.asList("?page=1&search=%EC%B5%9C%EC%84%9D%EA%B7%A0&mode=save",
+      "?page=2&search=%EC%B5%9C%EC%84%9D%EA%B7%A0&mode=save"));
+    assertEquals(template.mergeAll(null, "page", Arrays.asList("1", ""), false), Arrays.asList("?mode=save&page=1", "?mode=save"));
+    assertEquals(template.mergeAll(null, "page", Arrays.asList("1", ""), true), Arrays.asList("?mode=save&page=1", "?mode=save&page="));
+    assertEquals(ParameterUtils.compile("?").mergeAll(Collections.singletonMap("page", new String[]{"1"}), "page",
+      Collections.singletonList(""), false), Collections.singletonList(""));
+  }
 }
@@ -0,0 +1,96 @@
+package org.syaku.springboot.web.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class QueryLimitsTest {
+  private final UrlCodec codec = UrlCodec.UTF_8;
+
+  @Test
+  public void 분석_제한() {
+    QueryLimits count = QueryLimits.of(3, 0, 0, 0);
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.parse("a=1&a=2&b=3&c=4&d=5", codec, count)), "a=1&a=2&b=3");
+
+    QueryLimits length = QueryLimits.of(0, 4, 3, 0);
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.parse("page=1&search=choi&mode=save&q=%EC%B5%9C", codec, length)),
+      "page=1&q=%EC%B5%9C");
+
+    // 문자열로 만들었을 때 maxLength 를 넘지 않는다.
+    QueryLimits total = QueryLimits.of(0, 0, 0, 20);
+    String query = ParameterUtils.mapToString(ParameterUtils.parse("page=1&search=choi&mode=save&sort=name", codec, total));
+    assertEquals(query, "page=1&search=choi");
+    assertTrue(query.length() <= 20);
+
+    QueryLimits allowed = QueryLimits.NONE.withAllowedNames("page", "search");
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.parse("utm=x&page=1&search=choi&search=syaku", codec, allowed)),
+      "page=1&search=choi&search=syaku");
+
+    assertEquals(ParameterUtils.parse("a=1&b=2", codec, QueryLimits.NONE).size(), 2);
+  }
+
+  @Test
+  public void 언어셋_제한() {
+    // GB18030 은 한 문자를 4 bytes (12 자) 로 인코딩하므로 UTF-8 기준 (9 자) 으로 미리 버리면 안된다.
+    UrlCodec gb18030 = UrlCodec.of(Charset.forName("GB18030"));
+    String value = "%81%30%8B%37%81%30%8B%37%81%30%8B%37";
+    assertArrayEquals(ParameterUtils.parse("a=" + value, gb18030, QueryLimits.of(0, 0, 3, 0)).get("a"),
+      new String[]{ "ÿÿÿ" });
+    assertEquals(ParameterUtils.parse("a=" + value, gb18030, QueryLimits.of(0, 0, 2, 0)).size(), 0);
+  }
+
+  @Test
+  public void 맵_제한() {
+    Map<String, String[]> params = new LinkedHashMap<>();
+    params.put("page", new String[]{"1"});
+    params.put("search", new String[]{"choi", "syaku-syaku"});
+    params.put("mode", new String[]{});
+    params.put("utm", new String[]{"x"});
+
+    // 제한을 넘지 않으면 복사하지 않는다.
+    assertSame(ParameterUtils.limit(params, QueryLimits.of(10, 10, 20, 100)), params);
+    assertSame(ParameterUtils.limit(params, QueryLimits.NONE), params);
+
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.limit(params, QueryLimits.of(0, 0, 5, 0)), true),
+      "page=1&search=choi&mode=&utm=x");
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.limit(params, QueryLimits.of(2, 0, 0, 0)), true),
+      "page=1&search=choi");
+    assertEquals(ParameterUtils.mapToString(ParameterUtils.limit(params, QueryLimits.of(0, 5, 0, 0)), true),
+      "page=1&mode=&utm=x");
+  }
+
+  @Test
+  public void 허용_목록_합치기() {
+    Map<String, String[]> params = new LinkedHashMap<>();
+    params.put("page", new String[]{"1"});
+    params.put("search", new String[]{"choi"});
+    params.put("utm", new String[]{"x"});
+
+    QueryLimits limits = QueryLimits.NONE.withAllowedNames(Arrays.asList("page", "search"));
+    assertEquals(ParameterUtils.merge(params, "mode=save", limits), "page=1&search=choi&mode=save");
+    assertEquals(ParameterUtils.pick(params, "page=&utm=", limits), "page=1");
+  }
+
+  @Test
+  public void 기본_제한() {
+    try {
+      QueryLimits.setDefault(QueryLimits.of(1, 0, 0, 0));
+      assertEquals(ParameterUtils.parse("a=1&b=2", codec).size(), 1);
+    } finally {
+      QueryLimits.setDefault(null);
+    }
+    assertSame(QueryLimits.getDefault(), QueryLimits.NONE);
+  }
+}
@@ -0,0 +1,113 @@
+package org.syaku.springboot.web.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class QueryViewTest {
+  private static final String[] QUERIES = {
+    "",
+    "page=1&search=choi",
+    "page=1&search=choi&search=choi2&page=3",
+    "search=%EC%B5%9C%EC%84%9D%EA%B7%A0&keyword=spring+boot&mode=",
+    "search=%ec%b5%9c&a=%20b&c=%41&d=~x&e=a%2Fb",
+    "p%61ge=1&page=2&mode&&=x",
+    "a=&a=&b=1&a=2",
+    "a=%FF&b=%C3x&c=%E2%82&d=%E2%82%AC&e=%C0%80&f=%ED%A0%80&g=%F4%90%80%80",
+    "%C3=1&%F0%9F%98%80=%F0%9F%98%80&h=%E2%82%AC%E2",
+  };
+
+  private static final String[] TEMPLATES = { "", "page=2", "?page=2&mode=", "&mode=save&search=", "page=&a=%EA%B0%80" };
+
+  @Test
+  public void 읽기_테스트() {
+    QueryView view = QueryView.parse("page=1&search=%EC%B5%9C&search=choi2&mode=&p%61ge=3");
+
+    assertEquals(view.size(), 3);
+    assertEquals(view.name(0), "page");
+    assertEquals(view.indexOf("search"), 1);
+    assertEquals(view.indexOf("none"), -1);
+    assertArrayEquals(view.get("page"), new String[]{ "1", "3" });
+    assertArrayEquals(view.get("search"), new String[]{ "최", "choi2" });
+    assertArrayEquals(view.get("mode"), new String[0]);
+    assertNull(view.get("none"));
+    assertEquals(QueryView.parse(null).size(), 0);
+  }
+
+  @Test
+  public void 해시_테스트() {
+    StringBuilder query = new StringBuilder();
+    for (int i = 0; i < 40; i++) {
+      query.append("field").append(i).append('=').append(i).append('&');
+    }
+    query.append("field7=again");
+
+    QueryView view = QueryView.parse(query);
+    assertEquals(view.size(), 40);
+    assertEquals(view.indexOf("field39"), 39);
+    assertArrayEquals(view.get("field7"), new String[]{ "7", "again" });
+  }
+
+  @Test
+  public void 맵_테스트() {
+    for (String query : QUERIES) {
+      Map<String, String[]> expected = ParameterUtils.parse(query, UrlCodec.UTF_8, QueryLimits.NONE);
+      Map<String, String[]> actual = QueryView.parse(query, UrlCodec.UTF_8).toMap();
+
+      assertEquals(actual.keySet().toString(), expected.keySet().toString());
+      for (String name : expected.keySet()) {
+        assertArrayEquals(actual.get(name), expected.get(name));
+      }
+    }
+  }
+
+  @Test
+  public void 합치기_테스트() throws IOException {
+    for (String query : QUERIES) {
+      Map<String, String[]> parameters = ParameterUtils.parse(query, UrlCodec.UTF_8, QueryLimits.NONE);
+      for (String template : TEMPLATES) {
+        for (boolean allowEmpty : new boolean[]{ false, true }) {
+          assertEquals(query + " , " + template, ParameterUtils.mergeQuery(query, template, allowEmpty),
+            ParameterUtils.merge(parameters, template, allowEmpty));
+        }
+      }
+    }
+
+    // 그대로 쓸 수 있는 구간은 원본을 복사한다.
+    QueryTemplate template = ParameterUtils.compile("page=2");
+    assertEquals(template.mergeView(QueryView.parse("page=1&search=%EC%B5%9C+a")), "page=2&search=%EC%B5%9C+a");
+    assertEquals(template.mergeView(QueryView.parse("search=%ec%b5%9c%20a")), "search=%EC%B5%9C+a&page=2");
+    assertEquals(template.mergeView(QueryView.parse("a=%E2%82%AC&b=%FF")), "a=%E2%82%AC&b=%EF%BF%BD&page=2");
+    assertEquals(template.mergeView(null), "page=2");
+    assertEquals(template.mergeView(QueryView.parse("search=a"), false, new StringBuilder()).toString(),
+      "search=a&page=2");
+
+    // 언어셋이 다르면 다시 인코딩한다.
+    QueryView euckr = QueryView.parse("search=%C3%D6", UrlCodec.of(Charset.forName("EUC-KR")));
+    assertArrayEquals(euckr.get("search"), new String[]{ "최" });
+    assertEquals(template.mergeView(euckr), "search=%EC%B5%9C&page=2");
+  }
+
+  @Test
+  public void 오류_테스트() {
+    for (String query : new String[]{ "a=%zz", "a=%4", "a=%4&b=1", "%=1" }) {
+      try {
+        QueryView.parse(query);
+        fail(query);
+      } catch (IllegalArgumentException e) {
+        // 잘못된 인코딩은 만들 때 확인한다.
+      }
+    }
+  }
+}
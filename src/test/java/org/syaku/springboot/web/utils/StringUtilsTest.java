@@ -1,6 +1,11 @@
 package org.syaku.springboot.web.utils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -14,5 +19,57 @@ public class StringUtilsTest {
     assertEquals(StringUtils.abbreviate("ㄱㄴ", 1, ""), "ㄱ");
     assertEquals(StringUtils.abbreviate("가 나 다 1 2 3 4", 2, ""), "가 ");
     assertEquals(StringUtils.abbreviate("가123ㄱ나", 5, ""), "가123ㄱ");
+
+    assertEquals(StringUtils.abbreviate("가123ㄱ나", 5, "..."), "가123ㄱ...");
+    assertEquals(StringUtils.abbreviate("가123ㄱ나", 6, "..."), "가123ㄱ나");
+    assertEquals(StringUtils.abbreviate("😀😁😂", 2, ""), "😀😁");
+  }
+
+  @Test
+  public void 문자_테스트() {
+    // e + U+0301 (결합 문자) 는 하나의 글자이다.
+    assertEquals(StringUtils.abbreviateGraphemes("e\u0301e\u0301e\u0301", 2, "."), "e\u0301e\u0301.");
+    assertEquals(StringUtils.abbreviateGraphemes("가나다", 3, "."), "가나다");
+  }
+
+  @Test
+  public void 바이트_테스트() {
+    // 한글 3 bytes, 이모지 4 bytes, ... 3 bytes
+    assertEquals(StringUtils.abbreviateBytes("가나다라", 12, "..."), "가나다라");
+    assertEquals(StringUtils.abbreviateBytes("가나다라", 11, "..."), "가나...");
+    assertEquals(StringUtils.abbreviateBytes("😀😁😂", 11, ""), "😀😁");
+    assertEquals(StringUtils.abbreviateBytes("abcdef", 2, "..."), "ab");
+
+    TextAbbreviator euckr = TextAbbreviator.of(Charset.forName("EUC-KR"));
+    assertEquals(euckr.abbreviateBytes("가나다라", 7, "."), "가나다.");
+  }
+
+  @Test
+  public void 목록_테스트() {
+    List<String> texts = Arrays.asList("가나다라", "가나", null, "😀😁😂");
+
+    assertEquals(StringUtils.abbreviateAll(texts, 2, "..."), Arrays.asList("가나...", "가나", null, "😀😁..."));
+    assertEquals(StringUtils.abbreviateAll(texts.stream(), 2, ""), Arrays.asList("가나", "가나", null, "😀😁"));
+    assertEquals(TextAbbreviator.of(Charset.forName("EUC-KR"))
+      .abbreviateAll(Arrays.asList("가나다라", "ab가나"), TextAbbreviator.Mode.BYTES, 4, ""), Arrays.asList("가나", "ab가"));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void 언어셋_테스트() {
+    try {
+      StringUtils.setCharset("EUC-KR");
+      assertEquals(StringUtils.getAbbreviator().getCharset(), Charset.forName("EUC-KR"));
+      assertEquals(UrlCodec.getDefault().getCharset(), Charset.forName("EUC-KR"));
+      assertEquals(StringUtils.abbreviateBytes("가나다라", 7, "."), "가나다.");
+
+      // 빈 값은 무시한다.
+      StringUtils.setCharset("");
+      assertEquals(StringUtils.getAbbreviator().getCharset(), Charset.forName("EUC-KR"));
+    } finally {
+      UrlCodec.setDefault(null);
+      TextAbbreviator.setDefault(null);
+    }
+    assertSame(StringUtils.getAbbreviator(), TextAbbreviator.UTF_8);
   }
 }
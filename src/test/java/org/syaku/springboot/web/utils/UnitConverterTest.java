@@ -1,6 +1,10 @@
 package org.syaku.springboot.web.utils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.DecimalFormat;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -24,4 +28,59 @@ public class UnitConverterTest {
     assertEquals(UnitConverter.byteToUnit(10995116277L, UnitConverter.DataUnit.KB), "10737418.24 KB");
     assertEquals(UnitConverter.byteToUnit(10995116277L, UnitConverter.DataUnit.B), "10995116277 B");
   }
+
+  @Test
+  public void 자동_단위() {
+    assertEquals(UnitConverter.byteToUnit(0), "0 B");
+    assertEquals(UnitConverter.byteToUnit(1023), "1023 B");
+    assertEquals(UnitConverter.byteToUnit(1536), "1.5 KB");
+    assertEquals(UnitConverter.byteToUnit(10995116277L), "10.24 GB");
+    assertEquals(UnitConverter.byteToUnit(1099511627776L * 2048), "2048 TB");
+    assertEquals(UnitConverter.byteToUnit(-1536), "-1.5 KB");
+
+    StringBuilder builder = new StringBuilder("size: ");
+    assertEquals(UnitConverter.appendTo(builder, 1048576).toString(), "size: 1 MB");
+  }
+
+  @Test
+  public void 소수점_비교() {
+    Random random = new Random(0);
+    DecimalFormat format = new DecimalFormat("#.##");
+    for (int i = 0; i < 10000; i++) {
+      // double 로 정확히 표현되는 2^53 미만의 값만 비교한다.
+      long byteSize = random.nextLong() >>> (11 + random.nextInt(53));
+      for (UnitConverter.DataUnit unit : UnitConverter.DataUnit.values()) {
+        assertEquals(UnitConverter.byteToUnit(byteSize, unit),
+          format.format((double) byteSize / unit.getSize()) + " " + unit.getUnit());
+      }
+    }
+  }
+
+  @Test
+  public void 단위_파싱() {
+    assertEquals(UnitConverter.unitToByte("512"), 512L);
+    assertEquals(UnitConverter.unitToByte("10MB"), 10485760L);
+    assertEquals(UnitConverter.unitToByte(" 1.5 GB "), 1610612736L);
+    assertEquals(UnitConverter.unitToByte("10 KiB"), 10240L);
+    assertEquals(UnitConverter.unitToByte("10k"), 10240L);
+    assertEquals(UnitConverter.unitToByte("0.5kb"), 512L);
+    assertEquals(UnitConverter.unitToByte("1TB"), 1099511627776L);
+
+    assertEquals(UnitConverter.unitToByte("10 KB", true), 10000L);
+    assertEquals(UnitConverter.unitToByte("1.5 GB", true), 1500000000L);
+    assertEquals(UnitConverter.unitToByte("10 KiB", true), 10240L);
+
+    for (String text : new String[] { "10.24 GB", "1.5 KB", "1023 B", "2048 TB" }) {
+      assertEquals(UnitConverter.byteToUnit(UnitConverter.unitToByte(text)), text);
+    }
+
+    for (String text : new String[] { null, "", "MB", ".", "1.5.2 MB", "10 XB", "10 MBB", "-1 MB", "9999999 TB" }) {
+      try {
+        UnitConverter.unitToByte(text);
+        fail(text);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+  }
 }
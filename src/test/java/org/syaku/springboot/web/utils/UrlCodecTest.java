@@ -0,0 +1,53 @@
+package org.syaku.springboot.web.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * @author Seok Kyun. Choi. 최석균 (Syaku)
+ * @since 2026. 10. 18.
+ */
+public class UrlCodecTest {
+  private final String[] values = {
+    "", "choi", "a-b_c.d*e", "최석균", "choi seok kyun", "a+b=c&d", "100%", "😀 emoji", "가123ㄱ나/?#"
+  };
+
+  @Test
+  public void 인코딩_테스트() throws UnsupportedEncodingException {
+    for (String value : values) {
+      assertEquals(UrlCodec.UTF_8.encode(value), URLEncoder.encode(value, "UTF-8"));
+      assertEquals(UrlCodec.UTF_8.encodedLength(value), URLEncoder.encode(value, "UTF-8").length());
+    }
+
+    UrlCodec euckr = UrlCodec.of(Charset.forName("EUC-KR"));
+    assertEquals(euckr.encode("최석균"), URLEncoder.encode("최석균", "EUC-KR"));
+
+    String value = "choi";
+    assertSame(UrlCodec.UTF_8.encode(value), value);
+  }
+
+  @Test
+  public void 디코딩_테스트() throws UnsupportedEncodingException {
+    for (String value : values) {
+      String encoded = URLEncoder.encode(value, "UTF-8");
+      assertEquals(UrlCodec.UTF_8.decode(encoded), URLDecoder.decode(encoded, "UTF-8"));
+    }
+
+    assertEquals(UrlCodec.UTF_8.decode("search=%EC%B5%9C+1&page=1", 7, 18), "최 1");
+
+    String value = "choi";
+    assertSame(UrlCodec.UTF_8.decode(value), value);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void 잘못된_디코딩_테스트() {
+    UrlCodec.UTF_8.decode("%E");
+  }
+}
@@ -1,10 +1,10 @@
 package org.syaku.springboot.web.utils;
 
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.Test;
@@ -16,10 +16,8 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
-import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
 import org.syaku.springboot.web.support.freemarker.ParameterUtilsTemplateModel;
 
-import freemarker.template.Configuration;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -33,24 +31,28 @@ public class WebParameterUtilsTest {
   @Autowired
   private MockMvc mockMvc;
 
-  @Autowired
-  private FreeMarkerConfigurer freeMarkerConfigurer;
-
-  @PostConstruct
-  public void setup() {
-    Configuration configuration = freeMarkerConfigurer.getConfiguration();
-    configuration.setSharedVariable("parameterUtils", new ParameterUtilsTemplateModel());
-  }
-
+  /**
+   * parameterUtils 공용 변수는 FreeMarkerTemplateModelAutoConfiguration 이 등록한다.
+   */
   @Test
   public void 템플릿_테스트() throws Exception {
     mockMvc.perform(get("/ftl?page=1&search=choi"))
       .andExpect(view().name("parameterUtils"))
       .andExpect(content()
         .string("page=1&search=choi&mode=save\npage=1&mode=save"))
+      .andExpect(request().attribute(ParameterUtilsTemplateModel.CACHE_ATTRIBUTE, notNullValue()))
       .andExpect(status().isOk()).andDo(print());
   }
 
+  @Test
+  public void 범위_템플릿_테스트() throws Exception {
+    mockMvc.perform(get("/ftl/range?page=2&search=choi&sort=name"))
+      .andExpect(status().isOk())
+      .andExpect(content()
+        .string("?page=1&search=choi&sort=name|?page=2&search=choi&sort=name|?page=3&search=choi&sort=name|\n"
+          + "?page=2&search=choi&sort=date|?page=2&search=choi|"));
+  }
+
   @Test
   public void 컨텐츠_테스트() throws Exception {
     mockMvc.perform(get("/merge?page=1&search=choi"))
@@ -71,6 +73,11 @@ class WebParameterUtilsControllerTest {
     return "parameterUtils";
   }
 
+  @GetMapping("ftl/range")
+  public String parameterUtilsRange() {
+    return "parameterUtilsRange";
+  }
+
   @GetMapping(value = "merge")
   @ResponseBody
   public String merge(HttpServletRequest request) {
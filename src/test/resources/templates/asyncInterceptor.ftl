@@ -0,0 +1 @@
+${renderer.context!"none"}|${footer!"none"}
\ No newline at end of file
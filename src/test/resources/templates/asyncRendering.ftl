@@ -0,0 +1 @@
+${renderer.thread}|${page}
\ No newline at end of file
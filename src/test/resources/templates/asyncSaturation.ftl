@@ -0,0 +1 @@
+${renderer.thread}|${footer!"none"}
\ No newline at end of file
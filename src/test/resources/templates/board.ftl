@@ -0,0 +1 @@
+<@fragmentCache>${id}:${counter.next}</@fragmentCache>
\ No newline at end of file
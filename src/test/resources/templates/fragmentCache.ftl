@@ -0,0 +1 @@
+<@fragmentCache>${counter.next}</@fragmentCache>|<@fragmentCache key="page" params="page">${counter.next}</@fragmentCache>
\ No newline at end of file
@@ -0,0 +1,2 @@
+<#list parameterUtils(Request, "mergeRange", "?", "page", 1, 3) as link>${link}|</#list>
+<#list parameterUtils(Request, "mergeRange", "?", "sort", ["date", ""]) as link>${link}|</#list>
\ No newline at end of file